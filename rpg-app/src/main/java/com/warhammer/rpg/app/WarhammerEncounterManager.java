@@ -1,5 +1,6 @@
 package com.warhammer.rpg.app;
 
+import com.warhammer.rpg.app.controller.MainController;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -13,6 +14,8 @@ import java.io.IOException;
  */
 public class WarhammerEncounterManager extends Application {
 
+    private MainController controller;
+
     @Override
     public void start(Stage stage) throws IOException {
         FXMLLoader fxmlLoader = new FXMLLoader(
@@ -20,6 +23,7 @@ public class WarhammerEncounterManager extends Application {
         );
         
         Scene scene = new Scene(fxmlLoader.load(), 1200, 800);
+        controller = fxmlLoader.getController();
         
         // Add CSS styling
         scene.getStylesheets().add(
@@ -42,6 +46,13 @@ public class WarhammerEncounterManager extends Application {
         stage.show();
     }
 
+    @Override
+    public void stop() {
+        if (controller != null) {
+            controller.shutdown();
+        }
+    }
+
     public static void main(String[] args) {
         launch();
     }
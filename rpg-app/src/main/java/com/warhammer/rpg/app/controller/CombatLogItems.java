@@ -0,0 +1,71 @@
+package com.warhammer.rpg.app.controller;
+
+import com.warhammer.rpg.logic.CombatLog;
+import javafx.animation.AnimationTimer;
+import javafx.collections.ObservableListBase;
+import javafx.scene.control.ListView;
+
+/**
+ * Read-only view of a CombatLog for a ListView. An AnimationTimer drains the
+ * log once per frame and publishes everything appended since the previous
+ * frame as one list change, so the virtualized ListView only lays out the
+ * visible cells however fast lines arrive.
+ */
+final class CombatLogItems extends ObservableListBase<String> {
+
+    private final CombatLog log;
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            refresh();
+        }
+    };
+    private ListView<String> view;
+
+    CombatLogItems(CombatLog log) {
+        this.log = log;
+    }
+
+    /**
+     * Show the log in the view and start draining it every frame
+     */
+    void attach(ListView<String> listView) {
+        view = listView;
+        listView.setItems(this);
+        timer.start();
+    }
+
+    @Override
+    public String get(int index) {
+        return log.get(index);
+    }
+
+    @Override
+    public int size() {
+        return log.size();
+    }
+
+    /**
+     * Publish the lines appended since the last refresh and scroll to the
+     * newest one; FX application thread only
+     */
+    private void refresh() {
+        CombatLog.Batch batch = log.drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+        // A selected line means the user is reading back, so leave the scroll position alone
+        boolean following = view != null && view.getSelectionModel().isEmpty();
+        beginChange();
+        if (!batch.removed().isEmpty()) {
+            nextRemove(0, batch.removed());
+        }
+        if (batch.added() > 0) {
+            nextAdd(size() - batch.added(), size());
+        }
+        endChange();
+        if (following) {
+            view.scrollTo(size() - 1);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.warhammer.rpg.app.controller;
+
+import com.warhammer.rpg.logic.InitiativeListener;
+import com.warhammer.rpg.logic.InitiativeTracker;
+import com.warhammer.rpg.logic.InitiativeTracker.InitiativeEntry;
+import javafx.collections.ObservableListBase;
+
+import java.util.List;
+
+/**
+ * Live list of an InitiativeTracker's entries in initiative order. Tracker
+ * events become single-row list changes: adds and removes, a move as a remove
+ * plus an add, and wound changes as updates, so a ListView only re-renders
+ * the affected cells. Reads go straight to the tracker, nothing is copied.
+ * FX application thread only.
+ */
+final class EncounterItems extends ObservableListBase<InitiativeEntry> implements InitiativeListener {
+
+    private final InitiativeTracker tracker;
+
+    EncounterItems(InitiativeTracker tracker) {
+        this.tracker = tracker;
+        tracker.addListener(this);
+    }
+
+    @Override
+    public InitiativeEntry get(int index) {
+        return tracker.getEntry(index);
+    }
+
+    @Override
+    public int size() {
+        return tracker.size();
+    }
+
+    @Override
+    public void entryAdded(InitiativeEntry entry, int index) {
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    @Override
+    public void entryRemoved(InitiativeEntry entry, int index) {
+        beginChange();
+        nextRemove(index, entry);
+        endChange();
+    }
+
+    @Override
+    public void entryMoved(InitiativeEntry oldEntry, InitiativeEntry newEntry, int from, int to) {
+        beginChange();
+        nextRemove(from, oldEntry);
+        nextAdd(to, to + 1);
+        endChange();
+    }
+
+    @Override
+    public void woundsChanged(InitiativeEntry entry, int index, int currentWounds) {
+        beginChange();
+        nextUpdate(index);
+        endChange();
+    }
+
+    @Override
+    public void cleared(List<InitiativeEntry> removed) {
+        beginChange();
+        nextRemove(0, removed);
+        endChange();
+    }
+}
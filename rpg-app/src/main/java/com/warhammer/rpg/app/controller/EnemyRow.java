@@ -0,0 +1,59 @@
+package com.warhammer.rpg.app.controller;
+
+import com.warhammer.rpg.model.Characteristic;
+import com.warhammer.rpg.model.Enemy;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * Bestiary table row: an enemy with its load position and the observable
+ * values its cells show. Enemies are immutable, so each value is created the
+ * first time a cell asks for it and reused on every later render; rows that
+ * are never scrolled into view never create any.
+ */
+final class EnemyRow {
+
+    private static final Characteristic[] CHARACTERISTICS = Characteristic.values();
+
+    private final int index;
+    private final Enemy enemy;
+    private ObservableValue<String> name;
+    private ObservableValue<Integer>[] stats;
+
+    EnemyRow(int index, Enemy enemy) {
+        this.index = index;
+        this.enemy = enemy;
+    }
+
+    /**
+     * Load position in the repository the row was built from
+     */
+    int index() {
+        return index;
+    }
+
+    Enemy enemy() {
+        return enemy;
+    }
+
+    ObservableValue<String> name() {
+        if (name == null) {
+            name = new ReadOnlyStringWrapper(enemy.name());
+        }
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    ObservableValue<Integer> stat(Characteristic characteristic) {
+        if (stats == null) {
+            stats = new ObservableValue[CHARACTERISTICS.length];
+        }
+        ObservableValue<Integer> value = stats[characteristic.ordinal()];
+        if (value == null) {
+            value = new ReadOnlyObjectWrapper<>(characteristic.of(enemy.stats()));
+            stats[characteristic.ordinal()] = value;
+        }
+        return value;
+    }
+}
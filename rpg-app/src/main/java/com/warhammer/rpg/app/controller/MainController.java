@@ -1,20 +1,38 @@
 package com.warhammer.rpg.app.controller;
 
+import com.warhammer.rpg.data.CombatantRoster;
+import com.warhammer.rpg.data.DirectoryWatcher;
 import com.warhammer.rpg.data.EnemyRepository;
+import com.warhammer.rpg.data.EnemySearch;
+import com.warhammer.rpg.data.LoadDiagnostic;
+import com.warhammer.rpg.data.RepositoryBootstrap;
 import com.warhammer.rpg.data.WeaponRepository;
+import com.warhammer.rpg.logic.CombatLog;
 import com.warhammer.rpg.logic.CombatResolver;
 import com.warhammer.rpg.logic.DiceRoller;
+import com.warhammer.rpg.logic.InitiativeListener;
 import com.warhammer.rpg.logic.InitiativeTracker;
+import com.warhammer.rpg.logic.InitiativeTracker.InitiativeEntry;
+import com.warhammer.rpg.model.Characteristic;
 import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.ResolvedCombatant;
 import com.warhammer.rpg.model.Weapon;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.ResourceBundle;
 
 /**
@@ -22,21 +40,35 @@ import java.util.ResourceBundle;
  */
 public class MainController implements Initializable {
 
+    // Optional data directories, watched for changes when set
+    private static final String ENEMY_DATA_PROPERTY = "warhammer.data.enemies";
+    private static final String WEAPON_DATA_PROPERTY = "warhammer.data.weapons";
+
+    // Lines kept in the combat log, older lines are dropped
+    private static final int COMBAT_LOG_CAPACITY = 10_000;
+
     // Repositories
     private EnemyRepository enemyRepository;
     private WeaponRepository weaponRepository;
+    private CombatantRoster combatantRoster;
     private CombatResolver combatResolver;
     private InitiativeTracker initiativeTracker;
     private DiceRoller diceRoller;
+    private final CombatLog combatLogModel = new CombatLog(COMBAT_LOG_CAPACITY);
+    // Data directory watchers, closed in shutdown(); only touched on the FX thread
+    private final List<DirectoryWatcher> watchers = new ArrayList<>();
 
     // FXML Controls - Bestiary Tab
-    @FXML private TableView<Enemy> bestiaryTable;
-    @FXML private TableColumn<Enemy, String> enemyNameColumn;
-    @FXML private TableColumn<Enemy, Integer> enemyWSColumn;
-    @FXML private TableColumn<Enemy, Integer> enemyBSColumn;
-    @FXML private TableColumn<Enemy, Integer> enemySColumn;
-    @FXML private TableColumn<Enemy, Integer> enemyTColumn;
-    @FXML private TableColumn<Enemy, Integer> enemyWoundsColumn;
+    @FXML private TextField bestiarySearchField;
+    @FXML private TableView<EnemyRow> bestiaryTable;
+    @FXML private TableColumn<EnemyRow, String> enemyNameColumn;
+    @FXML private TableColumn<EnemyRow, Integer> enemyWSColumn;
+    @FXML private TableColumn<EnemyRow, Integer> enemyBSColumn;
+    @FXML private TableColumn<EnemyRow, Integer> enemySColumn;
+    @FXML private TableColumn<EnemyRow, Integer> enemyTColumn;
+    @FXML private TableColumn<EnemyRow, Integer> enemyWoundsColumn;
+    private FilteredList<EnemyRow> bestiaryRows;
+    private EnemySearch bestiarySearch;
 
     // FXML Controls - Weapons Tab
     @FXML private TableView<Weapon> weaponsTable;
@@ -45,8 +77,8 @@ public class MainController implements Initializable {
     @FXML private TableColumn<Weapon, String> weaponTraitsColumn;
 
     // FXML Controls - Encounter Tab
-    @FXML private ListView<String> encounterList;
-    @FXML private TextArea combatLog;
+    @FXML private ListView<InitiativeEntry> encounterList;
+    @FXML private ListView<String> combatLog;
     @FXML private Label currentTurnLabel;
 
     // Dice Rolling
@@ -60,9 +92,10 @@ public class MainController implements Initializable {
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
-        // Initialize repositories and services
-        enemyRepository = new EnemyRepository();
-        weaponRepository = new WeaponRepository();
+        // Start loading repositories in the background so the window shows immediately
+        Path enemyDirectory = dataDirectory(ENEMY_DATA_PROPERTY);
+        Path weaponDirectory = dataDirectory(WEAPON_DATA_PROPERTY);
+        RepositoryBootstrap bootstrap = RepositoryBootstrap.start(enemyDirectory, weaponDirectory);
         combatResolver = new CombatResolver();
         initiativeTracker = new InitiativeTracker();
         diceRoller = new DiceRoller();
@@ -72,31 +105,89 @@ public class MainController implements Initializable {
         setupWeaponsTable();
         setupEncounterControls();
 
-        // Load initial data
-        loadBestiaryData();
-        loadWeaponsData();
+        // Fill each table as soon as its data is ready
+        bestiaryTable.setPlaceholder(new ProgressIndicator());
+        weaponsTable.setPlaceholder(new ProgressIndicator());
+        bootstrap.enemies().whenComplete((repository, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                bestiaryTable.setPlaceholder(new Label("Failed to load bestiary"));
+                appendToCombatLog("Failed to load bestiary: " + rootCause(error).getMessage());
+            } else {
+                enemyRepository = repository;
+                bestiaryTable.setPlaceholder(new Label("No enemies"));
+                loadBestiaryData();
+                if (enemyDirectory != null) {
+                    watchers.add(repository.watchForChanges(() -> Platform.runLater(() -> {
+                        loadBestiaryData();
+                        logDiagnostics(repository.getLoadDiagnostics());
+                        relinkCombatants();
+                    })));
+                }
+            }
+        }));
+        bootstrap.weapons().whenComplete((repository, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                weaponsTable.setPlaceholder(new Label("Failed to load weapons"));
+                appendToCombatLog("Failed to load weapons: " + rootCause(error).getMessage());
+            } else {
+                weaponRepository = repository;
+                weaponsTable.setPlaceholder(new Label("No weapons"));
+                loadWeaponsData();
+                if (weaponDirectory != null) {
+                    watchers.add(repository.watchForChanges(() -> Platform.runLater(() -> {
+                        loadWeaponsData();
+                        logDiagnostics(repository.getLoadDiagnostics());
+                        relinkCombatants();
+                    })));
+                }
+            }
+        }));
+        bootstrap.combatants().thenAccept(roster -> Platform.runLater(() -> useCombatants(roster)));
 
         // Setup event handlers
         setupEventHandlers();
     }
 
+    /**
+     * Stop watching the data directories; called when the application stops
+     */
+    public void shutdown() {
+        for (DirectoryWatcher watcher : watchers) {
+            watcher.close();
+        }
+        watchers.clear();
+    }
+
+    /**
+     * Data directory configured by a system property, or null for the bundled data
+     */
+    private static Path dataDirectory(String property) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Path directory = Path.of(value);
+        return Files.isDirectory(directory) ? directory : null;
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
     private void setupBestiaryTable() {
-        enemyNameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
-        enemyWSColumn.setCellValueFactory(cellData -> 
-            new javafx.beans.property.SimpleIntegerProperty(
-                cellData.getValue().stats().weaponSkill()).asObject());
-        enemyBSColumn.setCellValueFactory(cellData -> 
-            new javafx.beans.property.SimpleIntegerProperty(
-                cellData.getValue().stats().ballisticSkill()).asObject());
-        enemySColumn.setCellValueFactory(cellData -> 
-            new javafx.beans.property.SimpleIntegerProperty(
-                cellData.getValue().stats().strength()).asObject());
-        enemyTColumn.setCellValueFactory(cellData -> 
-            new javafx.beans.property.SimpleIntegerProperty(
-                cellData.getValue().stats().toughness()).asObject());
-        enemyWoundsColumn.setCellValueFactory(cellData -> 
-            new javafx.beans.property.SimpleIntegerProperty(
-                cellData.getValue().stats().wounds()).asObject());
+        // Values are cached on the row, so re-rendering a cell allocates nothing
+        enemyNameColumn.setCellValueFactory(cellData -> cellData.getValue().name());
+        enemyWSColumn.setCellValueFactory(cellData -> cellData.getValue().stat(Characteristic.WEAPON_SKILL));
+        enemyBSColumn.setCellValueFactory(cellData -> cellData.getValue().stat(Characteristic.BALLISTIC_SKILL));
+        enemySColumn.setCellValueFactory(cellData -> cellData.getValue().stat(Characteristic.STRENGTH));
+        enemyTColumn.setCellValueFactory(cellData -> cellData.getValue().stat(Characteristic.TOUGHNESS));
+        enemyWoundsColumn.setCellValueFactory(cellData -> cellData.getValue().stat(Characteristic.WOUNDS));
+        bestiaryTable.setFixedCellSize(24);
+        bestiarySearchField.setPromptText("Search name or ability, e.g. goblin fear ws>=30 t<4");
     }
 
     private void setupWeaponsTable() {
@@ -106,17 +197,63 @@ public class MainController implements Initializable {
     }
 
     private void setupEncounterControls() {
-        combatLog.setEditable(false);
-        combatLog.setWrapText(true);
+        // One line per cell at a fixed height keeps the virtualized log cheap to lay out
+        combatLog.getStyleClass().add("combat-log");
+        combatLog.setFixedCellSize(20);
+        new CombatLogItems(combatLogModel).attach(combatLog);
+
+        // Rows follow tracker events; only the cells of changed entries are redrawn
+        encounterList.setItems(new EncounterItems(initiativeTracker));
+        encounterList.setCellFactory(list -> new EncounterCell());
+        initiativeTracker.addListener(new InitiativeListener() {
+            @Override
+            public void entryAdded(InitiativeEntry entry, int index) {
+                updateCurrentTurn();
+            }
+
+            @Override
+            public void entryRemoved(InitiativeEntry entry, int index) {
+                updateCurrentTurn();
+            }
+
+            @Override
+            public void turnChanged(InitiativeEntry current, int round) {
+                updateCurrentTurn();
+            }
+        });
         enemyDetailsArea.setEditable(false);
         enemyDetailsArea.setWrapText(true);
     }
 
     private void loadBestiaryData() {
-        ObservableList<Enemy> enemies = FXCollections.observableArrayList(
-            enemyRepository.getAllEnemies()
-        );
-        bestiaryTable.setItems(enemies);
+        bestiarySearch = enemyRepository.search();
+        List<Enemy> enemies = bestiarySearch.enemies();
+        List<EnemyRow> rows = new ArrayList<>(enemies.size());
+        for (int i = 0; i < enemies.size(); i++) {
+            rows.add(new EnemyRow(i, enemies.get(i)));
+        }
+        bestiaryRows = new FilteredList<>(FXCollections.observableList(rows));
+        applyBestiaryFilter();
+        SortedList<EnemyRow> sortedRows = new SortedList<>(bestiaryRows);
+        sortedRows.comparatorProperty().bind(bestiaryTable.comparatorProperty());
+        bestiaryTable.setItems(sortedRows);
+    }
+
+    /**
+     * Filter the bestiary by the search text; matches come from the repository
+     * indexes, so each row is tested with a single bit lookup
+     */
+    private void applyBestiaryFilter() {
+        if (bestiaryRows == null) {
+            return;
+        }
+        String text = bestiarySearchField.getText();
+        if (text == null || text.isBlank()) {
+            bestiaryRows.setPredicate(null);
+        } else {
+            BitSet matches = bestiarySearch.matches(text);
+            bestiaryRows.setPredicate(row -> matches.get(row.index()));
+        }
     }
 
     private void loadWeaponsData() {
@@ -126,15 +263,38 @@ public class MainController implements Initializable {
         weaponsTable.setItems(weapons);
     }
 
+    /**
+     * Link enemies to weapons again after either repository reloaded
+     */
+    private void relinkCombatants() {
+        if (enemyRepository != null && weaponRepository != null) {
+            useCombatants(CombatantRoster.link(enemyRepository, weaponRepository));
+        }
+    }
+
+    private void useCombatants(CombatantRoster roster) {
+        combatantRoster = roster;
+        logDiagnostics(roster.getDiagnostics());
+    }
+
+    private void logDiagnostics(List<LoadDiagnostic> diagnostics) {
+        for (LoadDiagnostic diagnostic : diagnostics) {
+            appendToCombatLog(diagnostic.toString());
+        }
+    }
+
     private void setupEventHandlers() {
         // Bestiary table selection
         bestiaryTable.getSelectionModel().selectedItemProperty().addListener(
             (obs, oldSelection, newSelection) -> {
                 if (newSelection != null) {
-                    displayEnemyDetails(newSelection);
+                    displayEnemyDetails(newSelection.enemy());
                 }
             });
 
+        // Bestiary search
+        bestiarySearchField.textProperty().addListener((obs, oldText, newText) -> applyBestiaryFilter());
+
         // Dice rolling buttons
         rollD100Button.setOnAction(e -> rollDice(100));
         rollD10Button.setOnAction(e -> rollDice(10));
@@ -158,7 +318,15 @@ public class MainController implements Initializable {
         details.append("W: ").append(enemy.stats().wounds()).append("\n\n");
         
         if (!enemy.weaponName().isEmpty()) {
-            details.append("Weapon: ").append(enemy.weaponName()).append("\n\n");
+            details.append("Weapon: ").append(enemy.weaponName());
+            ResolvedCombatant combatant = combatantRoster == null
+                ? null : combatantRoster.findById(enemy.id()).orElse(null);
+            if (combatant != null) {
+                details.append(" (Damage ").append(combatant.weapon().damage()).append(")");
+            } else if (combatantRoster != null) {
+                details.append(" (unknown weapon)");
+            }
+            details.append("\n\n");
         }
         
         if (!enemy.abilities().isEmpty()) {
@@ -203,15 +371,13 @@ public class MainController implements Initializable {
 
     @FXML
     private void addToEncounter() {
-        Enemy selectedEnemy = bestiaryTable.getSelectionModel().getSelectedItem();
-        if (selectedEnemy != null) {
+        EnemyRow selectedRow = bestiaryTable.getSelectionModel().getSelectedItem();
+        if (selectedRow != null) {
+            Enemy selectedEnemy = selectedRow.enemy();
             // Add to initiative tracker
             int initiative = combatResolver.rollInitiative(selectedEnemy);
             initiativeTracker.addEntry(selectedEnemy, initiative);
             
-            // Update encounter list
-            updateEncounterList();
-            
             appendToCombatLog(String.format("Added %s to encounter (Initiative: %d)", 
                 selectedEnemy.name(), initiative));
         } else {
@@ -222,36 +388,17 @@ public class MainController implements Initializable {
     @FXML
     private void clearEncounter() {
         initiativeTracker.reset();
-        updateEncounterList();
         appendToCombatLog("Encounter cleared");
-        currentTurnLabel.setText("No active encounter");
     }
 
     @FXML
     private void nextTurn() {
         if (!initiativeTracker.isEmpty()) {
             initiativeTracker.nextTurn();
-            updateCurrentTurn();
             appendToCombatLog("--- Next Turn ---");
         }
     }
 
-    private void updateEncounterList() {
-        ObservableList<String> encounterEntries = FXCollections.observableArrayList();
-        
-        initiativeTracker.getAllEntries().forEach(entry -> {
-            String entryText = String.format("%s (Init: %d, W: %d/%d)", 
-                entry.enemy().name(),
-                entry.initiative(),
-                entry.enemy().currentWounds(),
-                entry.enemy().stats().wounds());
-            encounterEntries.add(entryText);
-        });
-        
-        encounterList.setItems(encounterEntries);
-        updateCurrentTurn();
-    }
-
     private void updateCurrentTurn() {
         var currentEntry = initiativeTracker.getCurrentEntry();
         if (currentEntry != null) {
@@ -263,8 +410,11 @@ public class MainController implements Initializable {
         }
     }
 
+    /**
+     * Queue a line for the combat log, safe to call from any thread
+     */
     private void appendToCombatLog(String message) {
-        combatLog.appendText(message + "\n");
+        combatLogModel.append(message);
     }
 
     private void showAlert(String title, String message) {
@@ -274,4 +424,26 @@ public class MainController implements Initializable {
         alert.setContentText(message);
         alert.showAndWait();
     }
-}
\ No newline at end of file
+
+    /**
+     * Encounter row, formatted only when the cell shows a new or updated entry
+     */
+    private final class EncounterCell extends ListCell<InitiativeEntry> {
+        private final StringBuilder text = new StringBuilder();
+
+        @Override
+        protected void updateItem(InitiativeEntry entry, boolean empty) {
+            super.updateItem(entry, empty);
+            if (empty || entry == null) {
+                setText(null);
+                return;
+            }
+            text.setLength(0);
+            text.append(entry.enemy().name())
+                .append(" (Init: ").append(entry.initiative())
+                .append(", W: ").append(initiativeTracker.getCurrentWounds(entry))
+                .append('/').append(entry.enemy().stats().wounds()).append(')');
+            setText(text.toString());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+#!/usr/bin/env bash
+# Benchmark two commits with identical JMH options and compare the results.
+#
+#   rpg-bench/scripts/compare-commits.sh <base-ref> [head-ref] [-- JMH options...]
+#
+# head-ref defaults to the working tree. Each ref is built in a temporary git
+# worktree, so uncommitted changes are only measured for the working tree.
+# Results are kept in target/bench-compare. Exits with status 1 when a
+# benchmark regressed by more than THRESHOLD percent (default 10) beyond the
+# measurement error; pass enough iterations (-i) for JMH to report an error.
+set -euo pipefail
+
+if [ $# -lt 1 ]; then
+    echo "Usage: $0 <base-ref> [head-ref] [-- JMH options...]" >&2
+    exit 2
+fi
+base_ref=$1
+shift
+head_ref=""
+if [ $# -gt 0 ] && [ "$1" != "--" ]; then
+    head_ref=$1
+    shift
+fi
+if [ $# -gt 0 ] && [ "$1" = "--" ]; then
+    shift
+fi
+
+root=$(cd "$(dirname "$0")/../.." && pwd)
+out="$root/target/bench-compare"
+mkdir -p "$out"
+worktrees=()
+cleanup() {
+    for tree in "${worktrees[@]}"; do
+        git -C "$root" worktree remove --force "$tree" >/dev/null 2>&1 || true
+    done
+}
+trap cleanup EXIT
+
+# Build a ref in its own worktree and set jar to its benchmarks jar; not run
+# in a subshell so that the worktree is registered for cleanup
+build() {
+    local ref=$1 tree
+    tree=$(mktemp -d "${TMPDIR:-/tmp}/rpg-bench-XXXXXX")
+    git -C "$root" worktree add --detach "$tree" "$ref" >/dev/null
+    worktrees+=("$tree")
+    (cd "$tree" && mvn -B -q package -DskipTests -pl rpg-bench -am)
+    jar="$tree/rpg-bench/target/benchmarks.jar"
+}
+
+build "$base_ref"
+base_jar=$jar
+if [ -n "$head_ref" ]; then
+    build "$head_ref"
+    head_jar=$jar
+    head_name=$(git -C "$root" rev-parse --short "$head_ref")
+else
+    (cd "$root" && mvn -B -q package -DskipTests -pl rpg-bench -am)
+    head_jar="$root/rpg-bench/target/benchmarks.jar"
+    head_name=worktree
+fi
+base_name=$(git -C "$root" rev-parse --short "$base_ref")
+
+java -jar "$base_jar" -prof gc -rf json -rff "$out/$base_name.json" "$@"
+java -jar "$head_jar" -prof gc -rf json -rff "$out/$head_name.json" "$@"
+
+# The comparator from the head build understands both result files
+java -cp "$head_jar" com.warhammer.rpg.bench.BenchmarkComparison \
+    "$out/$base_name.json" "$out/$head_name.json" "${THRESHOLD:-10}"
@@ -0,0 +1,22 @@
+#!/usr/bin/env bash
+# Run the JMH benchmarks with the allocation profiler and save JSON results.
+#
+#   rpg-bench/scripts/run-benchmarks.sh <result.json> [JMH options and benchmark regex...]
+#
+# Builds the modules first unless SKIP_BUILD=1. Any extra arguments go to JMH,
+# e.g. "Combat -wi 1 -i 3" to run CombatBenchmark with fewer iterations.
+set -euo pipefail
+
+if [ $# -lt 1 ]; then
+    echo "Usage: $0 <result.json> [JMH options...]" >&2
+    exit 2
+fi
+result=$(realpath -m "$1")
+shift
+
+root=$(cd "$(dirname "$0")/../.." && pwd)
+if [ "${SKIP_BUILD:-0}" != "1" ]; then
+    (cd "$root" && mvn -B -q package -DskipTests -pl rpg-bench -am)
+fi
+
+java -jar "$root/rpg-bench/target/benchmarks.jar" -prof gc -rf json -rff "$result" "$@"
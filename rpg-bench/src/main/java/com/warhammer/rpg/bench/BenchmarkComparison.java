@@ -0,0 +1,165 @@
+package com.warhammer.rpg.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two JMH result files written with -rf json, e.g. from two commits.
+ * Prints every benchmark's primary score and, when the runs used -prof gc,
+ * its normalized allocation rate, then exits with status 1 if anything got
+ * worse by more than the threshold and by more than the two runs' errors
+ * combined. Usage:
+ * <pre>
+ * java -cp benchmarks.jar com.warhammer.rpg.bench.BenchmarkComparison base.json head.json [threshold %]
+ * </pre>
+ */
+public final class BenchmarkComparison {
+
+    private static final double DEFAULT_THRESHOLD = 10.0;
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private BenchmarkComparison() {
+    }
+
+    /**
+     * One score of one benchmark run
+     */
+    record Score(double value, double error, String unit, boolean higherIsBetter) {
+    }
+
+    /**
+     * Difference of a score between the two runs
+     */
+    record Change(String key, String metric, Score base, Score head, boolean regression) {
+
+        double percent() {
+            return base.value() == 0 ? 0 : (head.value() - base.value()) * 100 / base.value();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BenchmarkComparison <base.json> <head.json> [threshold %]");
+            System.exit(2);
+        }
+        double threshold = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, Map<String, Score>> base = read(mapper.readTree(Path.of(args[0]).toFile()));
+        Map<String, Map<String, Score>> head = read(mapper.readTree(Path.of(args[1]).toFile()));
+
+        List<Change> changes = compare(base, head, threshold);
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%-70s %-20s %14s %14s %9s%n", "Benchmark", "Metric", "Base", "Head", "Change");
+        for (Change change : changes) {
+            System.out.printf(Locale.ROOT, "%-70s %-20s %14s %14s %+8.1f%%%s%n", change.key(), change.metric(),
+                format(change.base()), format(change.head()), change.percent(),
+                change.regression() ? "  REGRESSION" : "");
+            if (change.regression()) {
+                regressions++;
+            }
+        }
+        for (String key : base.keySet()) {
+            if (!head.containsKey(key)) {
+                System.out.println("Only in base: " + key);
+            }
+        }
+        for (String key : head.keySet()) {
+            if (!base.containsKey(key)) {
+                System.out.println("Only in head: " + key);
+            }
+        }
+        System.out.printf(Locale.ROOT, "%d regression(s) above %.1f%%%n", regressions, threshold);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    /**
+     * Changes of every metric present in both runs, in base order
+     */
+    static List<Change> compare(Map<String, Map<String, Score>> base, Map<String, Map<String, Score>> head,
+                                double threshold) {
+        List<Change> changes = new ArrayList<>();
+        base.forEach((key, baseScores) -> {
+            Map<String, Score> headScores = head.get(key);
+            if (headScores == null) {
+                return;
+            }
+            baseScores.forEach((metric, baseScore) -> {
+                Score headScore = headScores.get(metric);
+                if (headScore != null) {
+                    changes.add(new Change(key, metric, baseScore, headScore, isRegression(baseScore, headScore, threshold)));
+                }
+            });
+        });
+        return changes;
+    }
+
+    static boolean isRegression(Score base, Score head, double threshold) {
+        double worse = base.higherIsBetter() ? base.value() - head.value() : head.value() - base.value();
+        double noise = error(base) + error(head);
+        return worse > noise && worse * 100 > threshold * Math.abs(base.value());
+    }
+
+    /**
+     * Scores by benchmark key ("Class.method" plus its parameters) and metric
+     */
+    static Map<String, Map<String, Score>> read(JsonNode results) {
+        Map<String, Map<String, Score>> scores = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            String benchmark = result.path("benchmark").asText();
+            String key = shortName(benchmark) + params(result.path("params"));
+            boolean throughput = "thrpt".equals(result.path("mode").asText());
+            Map<String, Score> metrics = new LinkedHashMap<>();
+            metrics.put("score", score(result.path("primaryMetric"), throughput));
+            Iterator<Map.Entry<String, JsonNode>> secondary = result.path("secondaryMetrics").fields();
+            while (secondary.hasNext()) {
+                Map.Entry<String, JsonNode> metric = secondary.next();
+                // Older JMH versions prefix profiler metrics with a middle dot
+                String name = metric.getKey().replace("·", "");
+                if (name.equals(ALLOCATION)) {
+                    metrics.put(name, score(metric.getValue(), false));
+                }
+            }
+            scores.put(key, metrics);
+        }
+        return scores;
+    }
+
+    private static Score score(JsonNode metric, boolean higherIsBetter) {
+        return new Score(metric.path("score").asDouble(), metric.path("scoreError").asDouble(Double.NaN),
+            metric.path("scoreUnit").asText(), higherIsBetter);
+    }
+
+    private static double error(Score score) {
+        // Single-iteration runs report NaN errors
+        return Double.isNaN(score.error()) ? 0 : score.error();
+    }
+
+    private static String shortName(String benchmark) {
+        int method = benchmark.lastIndexOf('.');
+        int type = benchmark.lastIndexOf('.', method - 1);
+        return benchmark.substring(type + 1);
+    }
+
+    private static String params(JsonNode params) {
+        if (params.isMissingNode() || params.isEmpty()) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder();
+        params.fields().forEachRemaining(param ->
+            text.append(text.length() == 0 ? " [" : ", ").append(param.getKey()).append('=').append(param.getValue().asText()));
+        return text.append(']').toString();
+    }
+
+    private static String format(Score score) {
+        return String.format(Locale.ROOT, "%.3f %s", score.value(), score.unit());
+    }
+}
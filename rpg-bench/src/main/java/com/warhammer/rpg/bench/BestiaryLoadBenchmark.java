@@ -0,0 +1,100 @@
+package com.warhammer.rpg.bench;
+
+import com.warhammer.rpg.data.BinaryBestiary;
+import com.warhammer.rpg.data.EnemyRepository;
+import com.warhammer.rpg.data.JsonSupport;
+import com.warhammer.rpg.data.MappedEnemyRepository;
+import com.warhammer.rpg.model.Ability;
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Enemy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opening a bestiary from JSON versus the memory-mapped binary format
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@State(Scope.Benchmark)
+public class BestiaryLoadBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private Path directory;
+    private Path json;
+    private Path binary;
+    private MappedEnemyRepository mapped;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() throws IOException {
+        SplittableRandom setupRandom = new SplittableRandom(42);
+        List<Ability> abilities = List.of(new Ability("Fear", "Causes fear in living creatures"),
+            new Ability("Frenzy", "Must charge the nearest enemy"));
+        List<Enemy> enemies = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BasicStatBlock stats = new BasicStatBlock(setupRandom.nextInt(20, 70), setupRandom.nextInt(20, 70),
+                setupRandom.nextInt(2, 7), setupRandom.nextInt(2, 7), setupRandom.nextInt(20, 70), 30, 30, 30,
+                setupRandom.nextInt(1, 4), setupRandom.nextInt(5, 30));
+            enemies.add(new Enemy("enemy-" + i, "Enemy " + i, stats, abilities.subList(0, i % 3 == 0 ? 2 : 1),
+                "Hand Weapon", 0));
+        }
+        directory = Files.createTempDirectory("bestiary-bench");
+        json = directory.resolve("enemies.json");
+        binary = directory.resolve("enemies.bin");
+        JsonSupport.sharedMapper().writeValue(json.toFile(), enemies);
+        BinaryBestiary.write(enemies, binary);
+        mapped = new MappedEnemyRepository(binary);
+        random = new SplittableRandom(7);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mapped.close();
+        Files.deleteIfExists(json);
+        Files.deleteIfExists(binary);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public EnemyRepository loadJson() {
+        return new EnemyRepository(json);
+    }
+
+    @Benchmark
+    public int openMapped() {
+        // Close every mapping, a fork otherwise runs out of map areas
+        try (MappedEnemyRepository repository = new MappedEnemyRepository(binary)) {
+            return repository.getEnemyCount();
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Optional<Enemy> mappedFindById() {
+        return mapped.findById("enemy-" + random.nextInt(size));
+    }
+}
@@ -0,0 +1,97 @@
+package com.warhammer.rpg.bench;
+
+import com.warhammer.rpg.data.BestiaryGenerator;
+import com.warhammer.rpg.data.StatColumns;
+import com.warhammer.rpg.model.Enemy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.warhammer.rpg.model.Characteristic.*;
+
+/**
+ * Whole-bestiary analytics over StatColumns versus walking List&lt;Enemy&gt;.
+ * Scores are per row, so 1 / score is the scan rate in rows per nanosecond.
+ * The vector=true runs only use the Vector API kernels when built with -Pvector.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class ColumnScanBenchmark {
+
+    private static final int SIZE = 2_000_000;
+
+    /** Armoury size the generated enemies take their weapon names from */
+    private static final int WEAPONS = 100;
+
+    /** "true" for the Vector API kernels, "false" for the scalar ones */
+    @Param({"true", "false"})
+    public String vector;
+
+    private List<Enemy> enemies;
+    private StatColumns columns;
+
+    @Setup
+    public void setUp() {
+        // Read once when the kernels are first used; every fork is a fresh JVM
+        System.setProperty("warhammer.vector", vector);
+        enemies = new BestiaryGenerator(42).enemies(SIZE, WEAPONS);
+        columns = StatColumns.build(enemies);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double meanFromObjects() {
+        long sum = 0;
+        for (Enemy enemy : enemies) {
+            sum += enemy.stats().weaponSkill();
+        }
+        return (double) sum / enemies.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double meanFromColumns() {
+        return columns.scan().mean(WEAPON_SKILL);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int filterFromObjects() {
+        int count = 0;
+        for (Enemy enemy : enemies) {
+            int toughness = enemy.stats().toughness();
+            if (toughness >= 3 && toughness <= 5 && enemy.stats().weaponSkill() >= 40) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int filterFromColumns() {
+        return columns.scan().between(TOUGHNESS, 3, 5).atLeast(WEAPON_SKILL, 40).count();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double filteredMeanFromColumns() {
+        return columns.scan().between(TOUGHNESS, 3, 5).mean(WOUNDS);
+    }
+}
@@ -0,0 +1,94 @@
+package com.warhammer.rpg.bench;
+
+import com.warhammer.rpg.data.BestiaryGenerator;
+import com.warhammer.rpg.logic.CombatResolver;
+import com.warhammer.rpg.logic.DiceRoller;
+import com.warhammer.rpg.logic.RandomSource;
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.ResolvedCombatant;
+import com.warhammer.rpg.model.Weapon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single combat rolls through CombatResolver: attacks with a weapon looked up
+ * per call or linked up front, damage-only resolution and characteristic tests.
+ * Pairs cycle through a synthetic bestiary so branches are not perfectly predicted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CombatBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    /** Armoury size the generated enemies take their weapon names from */
+    private static final int WEAPONS = 100;
+
+    private final Enemy[] attackers = new Enemy[PAIRS];
+    private final Enemy[] defenders = new Enemy[PAIRS];
+    private final Weapon[] weapons = new Weapon[PAIRS];
+    private final ResolvedCombatant[] combatants = new ResolvedCombatant[PAIRS];
+    private CombatResolver resolver;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<Enemy> enemies = new BestiaryGenerator(42).enemies(PAIRS * 2, WEAPONS);
+        Weapon[] catalogue = {
+            new Weapon("hand-weapon", "Hand Weapon", 0, ""),
+            new Weapon("great-weapon", "Great Weapon", 1, "two-handed, impact"),
+            new Weapon("spear", "Spear", 0, "fast")
+        };
+        for (int i = 0; i < PAIRS; i++) {
+            attackers[i] = enemies.get(2 * i);
+            defenders[i] = enemies.get(2 * i + 1);
+            weapons[i] = catalogue[i % catalogue.length];
+            combatants[i] = new ResolvedCombatant(attackers[i], weapons[i]);
+        }
+        resolver = new CombatResolver(new DiceRoller(RandomSource.splittable(42)));
+    }
+
+    private int nextPair() {
+        next = (next + 1) & (PAIRS - 1);
+        return next;
+    }
+
+    @Benchmark
+    public CombatResolver.AttackResult resolveAttack() {
+        int i = nextPair();
+        return resolver.resolveAttack(attackers[i], defenders[i], weapons[i]);
+    }
+
+    @Benchmark
+    public CombatResolver.AttackResult resolveAttackLinked() {
+        int i = nextPair();
+        return resolver.resolveAttack(combatants[i], defenders[i]);
+    }
+
+    @Benchmark
+    public int resolveAttackDamage() {
+        int i = nextPair();
+        return resolver.resolveAttackDamage(attackers[i], defenders[i], weapons[i]);
+    }
+
+    @Benchmark
+    public CombatResolver.CharacteristicTestResult testCharacteristic() {
+        int i = nextPair();
+        return resolver.testCharacteristic(attackers[i].stats().weaponSkill(), (i & 3) * 10 - 20);
+    }
+}
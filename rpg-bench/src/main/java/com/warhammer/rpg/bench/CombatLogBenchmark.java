@@ -0,0 +1,57 @@
+package com.warhammer.rpg.bench;
+
+import com.warhammer.rpg.logic.CombatLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One frame of combat log traffic: a burst of appends followed by the single
+ * drain the UI makes per frame, with the log already full so every line
+ * evicts an old one. Scores are per line.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CombatLogBenchmark {
+
+    private static final int CAPACITY = 10_000;
+    private static final int LINES_PER_FRAME = 1_000;
+
+    private final String[] lines = new String[LINES_PER_FRAME];
+    private CombatLog log;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = "Goblin " + i + " hits Orc for " + (i % 12) + " wounds";
+        }
+        log = new CombatLog(CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            log.append(lines[i % lines.length]);
+        }
+        log.drain();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES_PER_FRAME)
+    public CombatLog.Batch appendAndDrainFrame() {
+        for (String line : lines) {
+            log.append(line);
+        }
+        return log.drain();
+    }
+}
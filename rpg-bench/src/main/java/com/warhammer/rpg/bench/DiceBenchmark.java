@@ -0,0 +1,82 @@
+package com.warhammer.rpg.bench;
+
+import com.warhammer.rpg.logic.DiceRoller;
+import com.warhammer.rpg.logic.JdkRandomSource;
+import com.warhammer.rpg.logic.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalar versus bulk dice rolling for each random source
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiceBenchmark {
+
+    private static final int BATCH = 4096;
+
+    @Param({"jdk", "splittable", "l64x128", "xoshiro256"})
+    public String source;
+
+    private DiceRoller diceRoller;
+    private int[] rolls;
+
+    @Setup
+    public void setUp() {
+        diceRoller = new DiceRoller(switch (source) {
+            case "jdk" -> new JdkRandomSource(42);
+            case "splittable" -> RandomSource.splittable(42);
+            case "l64x128" -> RandomSource.l64x128(42);
+            case "xoshiro256" -> RandomSource.xoshiro256(42);
+            default -> throw new IllegalArgumentException("Unknown source " + source);
+        });
+        rolls = new int[BATCH];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void rollD100Scalar(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(diceRoller.rollD100());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] rollD100Bulk() {
+        diceRoller.rollD100(rolls, 0, BATCH);
+        return rolls;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void rollMultipleScalar(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(diceRoller.rollMultiple(3, 6));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] rollMultipleBulk() {
+        diceRoller.rollMultiple(rolls, 0, BATCH, 3, 6);
+        return rolls;
+    }
+}
@@ -0,0 +1,143 @@
+package com.warhammer.rpg.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.warhammer.rpg.data.BestiaryGenerator;
+import com.warhammer.rpg.data.FlyweightPool;
+import com.warhammer.rpg.data.JsonSupport;
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.PackedStatBlock;
+import com.warhammer.rpg.model.StatBlock;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap retained by a synthetic 500k-enemy bestiary parsed as plain records
+ * versus the same entries rebuilt through a FlyweightPool, and by 500k distinct
+ * stat lines as BasicStatBlocks versus PackedStatBlocks. The retained size is
+ * reported as the secondary "retainedMegabytes" result.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xmx3g", "-XX:+UseSerialGC"})
+@State(Scope.Benchmark)
+public class HeapFootprintBenchmark {
+
+    /** Armoury size the generated enemies take their weapon names from */
+    private static final int WEAPONS = 100;
+
+    @Param({"500000"})
+    public int size;
+
+    private Path json;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public double retainedMegabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedMegabytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        json = Files.createTempFile("bestiary", ".json");
+        new BestiaryGenerator(42).writeEnemies(json, size, WEAPONS);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(json);
+    }
+
+    @Benchmark
+    public int plainRecords(Footprint footprint) throws IOException {
+        long before = usedHeap();
+        List<Enemy> enemies = parse();
+        footprint.retainedMegabytes = (usedHeap() - before) / 1e6;
+        return enemies.size();
+    }
+
+    @Benchmark
+    public int pooledRecords(Footprint footprint) throws IOException {
+        long before = usedHeap();
+        List<Enemy> enemies = parse();
+        FlyweightPool pool = new FlyweightPool();
+        List<Enemy> pooled = new ArrayList<>(enemies.size());
+        for (Enemy enemy : enemies) {
+            pooled.add(pool.enemy(enemy));
+        }
+        enemies = null;
+        pool = null;
+        footprint.retainedMegabytes = (usedHeap() - before) / 1e6;
+        return pooled.size();
+    }
+
+    @Benchmark
+    public int basicStatBlocks(Footprint footprint) {
+        long before = usedHeap();
+        StatBlock[] blocks = distinctStatBlocks(false);
+        footprint.retainedMegabytes = (usedHeap() - before) / 1e6;
+        return blocks.length;
+    }
+
+    @Benchmark
+    public int packedStatBlocks(Footprint footprint) {
+        long before = usedHeap();
+        StatBlock[] blocks = distinctStatBlocks(true);
+        footprint.retainedMegabytes = (usedHeap() - before) / 1e6;
+        return blocks.length;
+    }
+
+    /**
+     * One unique stat line per enemy, the case pooling cannot help with
+     */
+    private StatBlock[] distinctStatBlocks(boolean packed) {
+        SplittableRandom random = new SplittableRandom(42);
+        StatBlock[] blocks = new StatBlock[size];
+        for (int i = 0; i < size; i++) {
+            BasicStatBlock stats = new BasicStatBlock(random.nextInt(20, 70), random.nextInt(20, 70),
+                random.nextInt(2, 7), random.nextInt(2, 7), random.nextInt(20, 70), random.nextInt(10, 60),
+                random.nextInt(10, 60), random.nextInt(10, 50), random.nextInt(1, 4), random.nextInt(5, 30));
+            blocks[i] = packed ? PackedStatBlock.of(stats) : stats;
+        }
+        return blocks;
+    }
+
+    private List<Enemy> parse() throws IOException {
+        return JsonSupport.sharedMapper().readValue(json.toFile(), new TypeReference<List<Enemy>>() {});
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
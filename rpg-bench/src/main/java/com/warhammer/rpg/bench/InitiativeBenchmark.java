@@ -0,0 +1,87 @@
+package com.warhammer.rpg.bench;
+
+import com.warhammer.rpg.data.BestiaryGenerator;
+import com.warhammer.rpg.logic.InitiativeTracker;
+import com.warhammer.rpg.model.Enemy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InitiativeTracker operations on an encounter of the given size. Each add is
+ * paired with a remove so the encounter keeps its size across iterations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InitiativeBenchmark {
+
+    private static final int ADDED = 1024;
+
+    /** Armoury size the generated enemies take their weapon names from */
+    private static final int WEAPONS = 100;
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private InitiativeTracker tracker;
+    private Enemy[] added;
+    private int[] initiatives;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        tracker = new InitiativeTracker();
+        for (Enemy enemy : new BestiaryGenerator(42).enemies(size, WEAPONS)) {
+            tracker.addEntry(enemy, random.nextInt(2, 40));
+        }
+        // Distinct ids, so each remove takes out exactly the entry just added
+        List<Enemy> extra = new BestiaryGenerator(7).enemies(ADDED, WEAPONS);
+        added = new Enemy[ADDED];
+        initiatives = new int[ADDED];
+        for (int i = 0; i < ADDED; i++) {
+            Enemy enemy = extra.get(i);
+            added[i] = new Enemy("added-" + i, enemy.name(), enemy.stats(), enemy.abilities(), enemy.weaponName(), 0);
+            initiatives[i] = random.nextInt(2, 40);
+        }
+    }
+
+    @Benchmark
+    public InitiativeTracker.InitiativeEntry addAndRemoveEntry() {
+        int i = next;
+        next = (next + 1) & (ADDED - 1);
+        InitiativeTracker.InitiativeEntry entry = tracker.addEntry(added[i], initiatives[i]);
+        tracker.removeEntry(added[i].id());
+        return entry;
+    }
+
+    @Benchmark
+    public InitiativeTracker.InitiativeEntry nextTurn() {
+        tracker.nextTurn();
+        return tracker.getCurrentEntry();
+    }
+
+    @Benchmark
+    public int applyDamageAndHeal() {
+        InitiativeTracker.InitiativeEntry entry = tracker.getEntry(next);
+        next = (next + 1) % size;
+        tracker.applyDamage(entry, 1);
+        return tracker.heal(entry, 1);
+    }
+}
@@ -0,0 +1,99 @@
+package com.warhammer.rpg.bench;
+
+import com.warhammer.rpg.data.EnemyRepository;
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Enemy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.warhammer.rpg.model.Characteristic.*;
+
+/**
+ * Compound characteristic queries through EnemyQuery versus a stream scan,
+ * and the bestiary search box through EnemySearch
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Benchmark)
+public class QueryBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private List<Enemy> enemies;
+    private EnemyRepository repository;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        enemies = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BasicStatBlock stats = new BasicStatBlock(random.nextInt(20, 70), random.nextInt(20, 70),
+                random.nextInt(2, 7), random.nextInt(2, 7), random.nextInt(20, 70), random.nextInt(20, 70),
+                random.nextInt(20, 70), random.nextInt(20, 70), random.nextInt(1, 4), random.nextInt(5, 30));
+            enemies.add(new Enemy("enemy-" + i, "Enemy " + i, stats, List.of(), "", 0));
+        }
+        repository = new EnemyRepository(enemies);
+    }
+
+    @Benchmark
+    public List<Enemy> selectiveIndexed() {
+        return repository.query()
+            .atLeast(WEAPON_SKILL, 65)
+            .between(TOUGHNESS, 3, 5)
+            .atLeast(WOUNDS, 28)
+            .sortedBy(AGILITY)
+            .list();
+    }
+
+    @Benchmark
+    public List<Enemy> selectiveScan() {
+        return enemies.stream()
+            .filter(e -> e.stats().weaponSkill() >= 65)
+            .filter(e -> e.stats().toughness() >= 3 && e.stats().toughness() <= 5)
+            .filter(e -> e.stats().wounds() >= 28)
+            .sorted(Comparator.comparingInt(e -> e.stats().agility()))
+            .toList();
+    }
+
+    @Benchmark
+    public List<Enemy> topTenIndexed() {
+        return repository.query()
+            .atLeast(WEAPON_SKILL, 40)
+            .sortedByDescending(AGILITY)
+            .limit(10)
+            .list();
+    }
+
+    @Benchmark
+    public int broadCountIndexed() {
+        return repository.query()
+            .atLeast(WEAPON_SKILL, 40)
+            .between(TOUGHNESS, 3, 5)
+            .atLeast(WOUNDS, 10)
+            .count();
+    }
+
+    @Benchmark
+    public int searchNameAndCharacteristic() {
+        return repository.search().matches("enemy 12 ws>=40 t<4").cardinality();
+    }
+}
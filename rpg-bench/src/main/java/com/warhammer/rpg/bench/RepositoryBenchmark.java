@@ -0,0 +1,123 @@
+package com.warhammer.rpg.bench;
+
+import com.warhammer.rpg.data.EnemyRepository;
+import com.warhammer.rpg.data.WeaponRepository;
+import com.warhammer.rpg.model.Ability;
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.Weapon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Indexed repository lookups versus the linear scans they replaced
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RepositoryBenchmark {
+
+    private static final String[] ABILITIES = {"Fear", "Frenzy", "Cowardly", "Night Vision", "Hatred", "Regenerate"};
+
+    private static final List<String> ABILITY_QUERY = List.of("fear", "hatred");
+
+    @Param({"100000"})
+    public int size;
+
+    private List<Enemy> enemies;
+    private List<Weapon> weapons;
+    private EnemyRepository enemyRepository;
+    private WeaponRepository weaponRepository;
+    private String[] ids;
+    private String[] names;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        BasicStatBlock stats = new BasicStatBlock(30, 30, 3, 3, 30, 30, 30, 30, 1, 8);
+        Ability[] abilities = new Ability[ABILITIES.length];
+        for (int i = 0; i < abilities.length; i++) {
+            abilities[i] = new Ability(ABILITIES[i], "");
+        }
+        enemies = new ArrayList<>(size);
+        weapons = new ArrayList<>(size);
+        ids = new String[size];
+        names = new String[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = "entry-" + i;
+            names[i] = "Entry Number " + i;
+            List<Ability> owned = List.of(abilities[i % abilities.length], abilities[(i / 7) % abilities.length]);
+            enemies.add(new Enemy(ids[i], names[i], stats, owned, names[i], 8));
+            weapons.add(new Weapon(ids[i], names[i], i % 5, "one-handed"));
+        }
+        enemyRepository = new EnemyRepository(enemies);
+        weaponRepository = new WeaponRepository(weapons);
+        // Look names up in a different case, as user input would be
+        for (int i = 0; i < size; i++) {
+            names[i] = names[i].toUpperCase();
+        }
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public Optional<Enemy> enemyByIdIndexed() {
+        return enemyRepository.findById(ids[random.nextInt(size)]);
+    }
+
+    @Benchmark
+    public Optional<Enemy> enemyByIdLinear() {
+        String id = ids[random.nextInt(size)];
+        return enemies.stream().filter(enemy -> enemy.id().equals(id)).findFirst();
+    }
+
+    @Benchmark
+    public Optional<Enemy> enemyByNameIndexed() {
+        return enemyRepository.findByName(names[random.nextInt(size)]);
+    }
+
+    @Benchmark
+    public Optional<Weapon> weaponByNameIndexed() {
+        return weaponRepository.findByName(names[random.nextInt(size)]);
+    }
+
+    @Benchmark
+    public Optional<Weapon> weaponByNameLinear() {
+        String name = names[random.nextInt(size)];
+        return weapons.stream().filter(weapon -> weapon.name().equalsIgnoreCase(name)).findFirst();
+    }
+
+    @Benchmark
+    public List<Enemy> enemiesByAbilityIndexed() {
+        return enemyRepository.findByAbility(ABILITIES[random.nextInt(ABILITIES.length)]);
+    }
+
+    @Benchmark
+    public List<Enemy> enemiesByAbilitiesIndexed() {
+        return enemyRepository.findByAllAbilities(ABILITY_QUERY);
+    }
+
+    @Benchmark
+    public List<Enemy> enemiesByAbilitiesLinear() {
+        return enemies.stream()
+            .filter(enemy -> ABILITY_QUERY.stream().allMatch(enemy::hasAbility))
+            .toList();
+    }
+}
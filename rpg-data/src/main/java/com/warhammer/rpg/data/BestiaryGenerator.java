@@ -0,0 +1,350 @@
+package com.warhammer.rpg.data;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.warhammer.rpg.model.Enemy;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generator of large bestiary and armoury JSON files in the format the
+ * repositories load. Entries are streamed to the output one at a time, so the
+ * size is limited by disk space only. The same seed and counts always give
+ * byte-identical files, and enemies only name weapons from the armoury of the
+ * given size, so linking the two finds every weapon. Beasts and the mindless
+ * undead fight unarmed and have no weapon name.
+ * <p>
+ * Enemies are drawn from weighted archetypes with percentile characteristics
+ * varied around the archetype, signature abilities plus a few common ones,
+ * and mostly the archetype's usual weapon. Weapons are the basic armoury
+ * followed by numbered variants whose popularity falls off with their index.
+ */
+public final class BestiaryGenerator {
+
+    private static final long ENEMY_STREAM = 0x6A09E667F3BCC908L;
+    private static final long WEAPON_STREAM = 0xBB67AE8584CAA73BL;
+
+    /** Share of enemies carrying their archetype's usual weapon */
+    private static final double USUAL_WEAPON = 0.6;
+
+    private record Archetype(String id, String name, int weight, int[] stats, String[] abilities, String weapon) {
+    }
+
+    private record WeaponBase(String id, String name, int damage, String traits) {
+    }
+
+    // WS BS S T Ag Int WP Fel A W
+    private static final Archetype[] ARCHETYPES = {
+        new Archetype("goblin", "Goblin", 20, new int[] {25, 30, 30, 30, 25, 25, 20, 20, 1, 8},
+            new String[] {"Animosity", "Night Vision"}, "Short Sword"),
+        new Archetype("orc", "Orc", 16, new int[] {35, 25, 35, 45, 25, 25, 30, 20, 1, 12},
+            new String[] {"Animosity"}, "Hand Weapon"),
+        new Archetype("skaven-clanrat", "Skaven Clanrat", 12, new int[] {30, 25, 30, 30, 40, 30, 25, 15, 1, 8},
+            new String[] {"Night Vision"}, "Spear"),
+        new Archetype("bandit", "Bandit", 12, new int[] {30, 30, 30, 30, 30, 30, 30, 30, 1, 10},
+            new String[] {}, "Club"),
+        new Archetype("beastman", "Beastman", 10, new int[] {35, 25, 35, 40, 35, 25, 30, 20, 1, 11},
+            new String[] {"Night Vision"}, "Hand Weapon"),
+        new Archetype("zombie", "Zombie", 8, new int[] {25, 0, 35, 35, 10, 0, 0, 0, 1, 12},
+            new String[] {"Undead", "Fear"}, ""),
+        new Archetype("skeleton", "Skeleton", 8, new int[] {25, 20, 30, 30, 25, 0, 0, 0, 1, 10},
+            new String[] {"Undead", "Fear"}, "Sword"),
+        new Archetype("empire-archer", "Empire Archer", 6, new int[] {30, 40, 30, 30, 35, 30, 30, 30, 1, 10},
+            new String[] {}, "Bow"),
+        new Archetype("ghoul", "Ghoul", 4, new int[] {30, 0, 35, 35, 30, 15, 35, 5, 2, 10},
+            new String[] {"Night Vision", "Natural Weapons"}, ""),
+        new Archetype("chaos-warrior", "Chaos Warrior", 3, new int[] {55, 25, 45, 45, 35, 25, 45, 10, 2, 20},
+            new String[] {"Fear", "Will of Iron"}, "Great Weapon"),
+        new Archetype("ogre", "Ogre", 2, new int[] {40, 20, 50, 50, 20, 20, 30, 20, 2, 28},
+            new String[] {"Fear"}, "Great Weapon"),
+        new Archetype("troll", "Troll", 2, new int[] {30, 10, 55, 55, 15, 10, 20, 5, 3, 30},
+            new String[] {"Fear", "Regenerate", "Stupidity"}, ""),
+        new Archetype("wyvern", "Wyvern", 1, new int[] {55, 0, 60, 60, 30, 15, 40, 5, 3, 40},
+            new String[] {"Terror", "Scaly Skin", "Flier"}, "")
+    };
+    private static final int TOTAL_WEIGHT = totalWeight();
+
+    /** Abilities that any enemy may pick up, most common first */
+    private static final String[] COMMON_ABILITIES = {
+        "Keen Senses", "Hatred", "Frenzy", "Cowardly", "Night Vision", "Ambidextrous", "Fear", "Scaly Skin",
+        "Will of Iron", "Natural Weapons", "Regenerate", "Terror"
+    };
+
+    private static final WeaponBase[] ARMOURY = {
+        new WeaponBase("hand-weapon", "Hand Weapon", 1, "one-handed"),
+        new WeaponBase("short-sword", "Short Sword", 1, "one-handed, piercing"),
+        new WeaponBase("spear", "Spear", 1, "two-handed, reach"),
+        new WeaponBase("club", "Club", 0, "one-handed, crude"),
+        new WeaponBase("sword", "Sword", 2, "one-handed, balanced"),
+        new WeaponBase("great-weapon", "Great Weapon", 3, "two-handed, heavy"),
+        new WeaponBase("bow", "Bow", 1, "ranged, two-handed"),
+        new WeaponBase("crossbow", "Crossbow", 2, "ranged, reload"),
+        new WeaponBase("flail", "Flail", 2, "two-handed, impact, tiring"),
+        new WeaponBase("halberd", "Halberd", 2, "two-handed, impact"),
+        new WeaponBase("rapier", "Rapier", 1, "one-handed, fast, precise"),
+        new WeaponBase("buckler", "Buckler", 0, "one-handed, defensive, pummelling"),
+        new WeaponBase("net", "Net", 0, "one-handed, snare"),
+        new WeaponBase("blunderbuss", "Blunderbuss", 2, "ranged, two-handed, shrapnel, unreliable")
+    };
+
+    private static final String[] QUALITIES = {"Crude", "Common", "Fine", "Dwarf-forged", "Elven", "Runic"};
+    private static final int[] QUALITY_DAMAGE = {-1, 0, 0, 1, 0, 1};
+    private static final String[] QUALITY_TRAITS = {"crude", "", "precise", "heavy", "fast", "runic"};
+    private static final String[] NAME_PREFIXES = {"", "", "", "", "Young ", "Veteran ", "Scarred ", "Elder "};
+
+    private final long seed;
+
+    public BestiaryGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Write an armoury of count weapons to a JSON file
+     */
+    public void writeWeapons(Path file, int count) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            writeWeapons(out, count);
+        }
+    }
+
+    /**
+     * Write a bestiary of count enemies, using weapons of an armoury of
+     * weaponCount entries, to a JSON file
+     */
+    public void writeEnemies(Path file, int count, int weaponCount) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            writeEnemies(out, count, weaponCount);
+        }
+    }
+
+    /**
+     * Stream an armoury of count weapons; the stream is left open
+     */
+    public void writeWeapons(OutputStream out, int count) throws IOException {
+        requireCount(count);
+        SplittableRandom random = new SplittableRandom(seed ^ WEAPON_STREAM);
+        try (JsonGenerator json = createGenerator(out)) {
+            json.writeStartArray();
+            StringBuilder traits = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                WeaponBase base = ARMOURY[i % ARMOURY.length];
+                json.writeStartObject();
+                if (i < ARMOURY.length) {
+                    json.writeStringField("id", base.id());
+                    json.writeStringField("name", base.name());
+                    json.writeNumberField("damage", base.damage());
+                    json.writeStringField("traits", base.traits());
+                } else {
+                    int quality = random.nextInt(QUALITIES.length);
+                    traits.setLength(0);
+                    traits.append(base.traits());
+                    if (!QUALITY_TRAITS[quality].isEmpty() && !base.traits().contains(QUALITY_TRAITS[quality])) {
+                        traits.append(", ").append(QUALITY_TRAITS[quality]);
+                    }
+                    json.writeStringField("id", base.id() + "-" + i);
+                    json.writeStringField("name", weaponName(i, quality));
+                    json.writeNumberField("damage", Math.max(0, base.damage() + QUALITY_DAMAGE[quality]));
+                    json.writeStringField("traits", traits.toString());
+                }
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+    }
+
+    /**
+     * Stream a bestiary of count enemies; the stream is left open
+     */
+    public void writeEnemies(OutputStream out, int count, int weaponCount) throws IOException {
+        requireCount(count);
+        requireCount(weaponCount);
+        // Weapon names depend only on the seed and index, so replay the armoury's qualities
+        byte[] qualities = weaponQualities(weaponCount);
+        SplittableRandom random = new SplittableRandom(seed ^ ENEMY_STREAM);
+        try (JsonGenerator json = createGenerator(out)) {
+            json.writeStartArray();
+            for (int i = 0; i < count; i++) {
+                Archetype archetype = pickArchetype(random);
+                String prefix = NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)];
+                json.writeStartObject();
+                json.writeStringField("id", archetype.id() + "-" + (i + 1));
+                json.writeStringField("name", prefix + archetype.name() + " " + (i + 1));
+                writeStats(json, archetype.stats(), prefix, random);
+                writeAbilities(json, archetype.abilities(), random);
+                json.writeStringField("weaponName", pickWeapon(archetype, weaponCount, qualities, random));
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+    }
+
+    /**
+     * Generate a bestiary of count enemies and parse it as the repositories
+     * would, for benchmarks and tests that need the entries in memory
+     */
+    public List<Enemy> enemies(int count, int weaponCount) {
+        try {
+            // Through a file, so only the parsed entries are held in memory
+            Path file = Files.createTempFile("bestiary", ".json");
+            try {
+                writeEnemies(file, count, weaponCount);
+                return JsonSupport.sharedMapper().readValue(file.toFile(), JsonSupport.ENEMY_LIST);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to generate bestiary", e);
+        }
+    }
+
+    /**
+     * Command line generator:
+     * BestiaryGenerator enemies.json weapons.json enemyCount weaponCount [seed]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4 || args.length > 5) {
+            System.err.println("Usage: BestiaryGenerator <enemies.json> <weapons.json> <enemy count> <weapon count> [seed]");
+            System.exit(2);
+        }
+        int enemyCount = Integer.parseInt(args[2]);
+        int weaponCount = Integer.parseInt(args[3]);
+        BestiaryGenerator generator = new BestiaryGenerator(args.length == 5 ? Long.parseLong(args[4]) : 42);
+        generator.writeWeapons(Path.of(args[1]), weaponCount);
+        generator.writeEnemies(Path.of(args[0]), enemyCount, weaponCount);
+    }
+
+    private static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator json = JsonSupport.sharedMapper().getFactory()
+            .createGenerator(new BufferedOutputStream(out, 1 << 16), JsonEncoding.UTF8);
+        // Flush our buffer on close but leave the caller's stream open
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return json;
+    }
+
+    private void writeStats(JsonGenerator json, int[] base, String prefix, SplittableRandom random) throws IOException {
+        int veteran = prefix.startsWith("Veteran") ? 10 : 0;
+        json.writeObjectFieldStart("stats");
+        json.writeNumberField("weaponSkill", percentile(base[0] + veteran, random));
+        json.writeNumberField("ballisticSkill", percentile(base[1], random));
+        json.writeNumberField("strength", percentile(base[2], random));
+        json.writeNumberField("toughness", percentile(base[3], random));
+        json.writeNumberField("agility", percentile(base[4], random));
+        json.writeNumberField("intelligence", percentile(base[5], random));
+        json.writeNumberField("willPower", percentile(base[6] + veteran, random));
+        json.writeNumberField("fellowship", percentile(base[7], random));
+        json.writeNumberField("attacks", base[8] + (random.nextInt(20) == 0 ? 1 : 0));
+        json.writeNumberField("wounds", Math.max(1, base[9] + (int) Math.round(random.nextGaussian() * 2)));
+        json.writeEndObject();
+    }
+
+    /**
+     * Characteristic near the archetype's value; zero stays zero, as for the mindless undead
+     */
+    private static int percentile(int base, SplittableRandom random) {
+        if (base == 0) {
+            return 0;
+        }
+        return Math.max(1, Math.min(99, base + (int) Math.round(random.nextGaussian() * 5)));
+    }
+
+    private void writeAbilities(JsonGenerator json, String[] signature, SplittableRandom random) throws IOException {
+        json.writeArrayFieldStart("abilities");
+        for (String ability : signature) {
+            writeAbility(json, ability);
+        }
+        // Geometric number of extras, each a skewed pick from the common list
+        long taken = 0;
+        while (random.nextInt(3) == 0) {
+            int pick = skewedIndex(COMMON_ABILITIES.length, random);
+            String ability = COMMON_ABILITIES[pick];
+            if ((taken & (1L << pick)) == 0 && !contains(signature, ability)) {
+                writeAbility(json, ability);
+            }
+            taken |= 1L << pick;
+        }
+        json.writeEndArray();
+    }
+
+    private static void writeAbility(JsonGenerator json, String name) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("name", name);
+        json.writeStringField("description", "Rules for " + name + " as printed in the Old World Bestiary");
+        json.writeEndObject();
+    }
+
+    private static Archetype pickArchetype(SplittableRandom random) {
+        int ticket = random.nextInt(TOTAL_WEIGHT);
+        for (Archetype archetype : ARCHETYPES) {
+            ticket -= archetype.weight();
+            if (ticket < 0) {
+                return archetype;
+            }
+        }
+        throw new IllegalStateException("Archetype weights do not add up");
+    }
+
+    private static String pickWeapon(Archetype archetype, int weaponCount, byte[] qualities, SplittableRandom random) {
+        if (archetype.weapon().isEmpty() || weaponCount == 0) {
+            return "";
+        }
+        if (random.nextDouble() < USUAL_WEAPON) {
+            for (int i = 0; i < Math.min(weaponCount, ARMOURY.length); i++) {
+                if (ARMOURY[i].name().equals(archetype.weapon())) {
+                    return ARMOURY[i].name();
+                }
+            }
+        }
+        int index = skewedIndex(weaponCount, random);
+        return index < ARMOURY.length ? ARMOURY[index].name() : weaponName(index, qualities[index - ARMOURY.length]);
+    }
+
+    /**
+     * Index in [0, size) with probability falling off roughly as 1 / (index + 1)
+     */
+    private static int skewedIndex(int size, SplittableRandom random) {
+        int index = (int) Math.exp(random.nextDouble() * Math.log(size + 1.0)) - 1;
+        return Math.min(size - 1, Math.max(0, index));
+    }
+
+    private byte[] weaponQualities(int weaponCount) {
+        SplittableRandom random = new SplittableRandom(seed ^ WEAPON_STREAM);
+        byte[] qualities = new byte[Math.max(0, weaponCount - ARMOURY.length)];
+        for (int i = 0; i < qualities.length; i++) {
+            qualities[i] = (byte) random.nextInt(QUALITIES.length);
+        }
+        return qualities;
+    }
+
+    private static String weaponName(int index, int quality) {
+        return QUALITIES[quality] + " " + ARMOURY[index % ARMOURY.length].name() + " " + index;
+    }
+
+    private static boolean contains(String[] values, String value) {
+        for (String candidate : values) {
+            if (candidate.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void requireCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+    }
+
+    private static int totalWeight() {
+        int total = 0;
+        for (Archetype archetype : ARCHETYPES) {
+            total += archetype.weight();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,214 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Ability;
+import com.warhammer.rpg.model.Characteristic;
+import com.warhammer.rpg.model.Enemy;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary bestiary format, read by MappedEnemyRepository.
+ * All values are big-endian. Layout:
+ * <pre>
+ * header      magic, version, enemy count, ability count (4 x int),
+ *             offsets of the five sections below (5 x long)
+ * records     one fixed-width record per enemy, see RECORD_SIZE
+ * abilities   name and description string references (2 x int) per ability
+ * id index    (hash, record) int pairs sorted by id hash, then record
+ * name index  (hash, record) int pairs sorted by case-folded name hash, then record
+ * strings     deduplicated strings as int byte length + UTF-8 bytes
+ * </pre>
+ * String references are byte offsets into the string section. Files must stay
+ * below 2 GB so that they can be mapped as a single buffer.
+ */
+public final class BinaryBestiary {
+
+    static final int MAGIC = 0x57484253; // "WHBS"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 4 * 4 + 5 * 8;
+
+    /** Ten characteristics and current wounds as shorts, ability count as short, four ints */
+    static final int RECORD_SIZE = 11 * 2 + 2 + 4 * 4;
+    static final int CURRENT_WOUNDS_OFFSET = 20;
+    static final int ABILITY_COUNT_OFFSET = 22;
+    static final int ID_OFFSET = 24;
+    static final int NAME_OFFSET = 28;
+    static final int WEAPON_OFFSET = 32;
+    static final int ABILITY_START_OFFSET = 36;
+    static final int ABILITY_SIZE = 8;
+    static final int INDEX_ENTRY_SIZE = 8;
+
+    private BinaryBestiary() {
+    }
+
+    /**
+     * Write enemies to a binary bestiary file, replacing it atomically
+     */
+    public static void write(List<Enemy> enemies, Path file) throws IOException {
+        StringTable strings = new StringTable();
+        int abilityCount = 0;
+        for (Enemy enemy : enemies) {
+            strings.add(enemy.id());
+            strings.add(enemy.name());
+            strings.add(enemy.weaponName());
+            for (Ability ability : enemy.abilities()) {
+                strings.add(ability.name());
+                strings.add(ability.description());
+            }
+            abilityCount += enemy.abilities().size();
+        }
+
+        long recordsOffset = HEADER_SIZE;
+        long abilitiesOffset = recordsOffset + (long) enemies.size() * RECORD_SIZE;
+        long idIndexOffset = abilitiesOffset + (long) abilityCount * ABILITY_SIZE;
+        long nameIndexOffset = idIndexOffset + (long) enemies.size() * INDEX_ENTRY_SIZE;
+        long stringsOffset = nameIndexOffset + (long) enemies.size() * INDEX_ENTRY_SIZE;
+        if (stringsOffset + strings.size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bestiary too large for the binary format");
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(enemies.size());
+                out.writeInt(abilityCount);
+                out.writeLong(recordsOffset);
+                out.writeLong(abilitiesOffset);
+                out.writeLong(idIndexOffset);
+                out.writeLong(nameIndexOffset);
+                out.writeLong(stringsOffset);
+
+                int abilityStart = 0;
+                for (Enemy enemy : enemies) {
+                    for (Characteristic characteristic : Characteristic.values()) {
+                        out.writeShort(toShort(characteristic.of(enemy.stats()), enemy));
+                    }
+                    out.writeShort(toShort(enemy.currentWounds(), enemy));
+                    out.writeShort(toShort(enemy.abilities().size(), enemy));
+                    out.writeInt(strings.offset(enemy.id()));
+                    out.writeInt(strings.offset(enemy.name()));
+                    out.writeInt(strings.offset(enemy.weaponName()));
+                    out.writeInt(abilityStart);
+                    abilityStart += enemy.abilities().size();
+                }
+                for (Enemy enemy : enemies) {
+                    for (Ability ability : enemy.abilities()) {
+                        out.writeInt(strings.offset(ability.name()));
+                        out.writeInt(strings.offset(ability.description()));
+                    }
+                }
+                writeIndex(out, enemies, false);
+                writeIndex(out, enemies, true);
+                for (byte[] bytes : strings.entries) {
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Convert a JSON bestiary file or directory to the binary format.
+     * Returns the diagnostics of the JSON load.
+     */
+    public static List<LoadDiagnostic> convert(Path json, Path binary) throws IOException {
+        EnemyRepository repository = new EnemyRepository(json);
+        write(repository.getAllEnemies(), binary);
+        return repository.getLoadDiagnostics();
+    }
+
+    /**
+     * Command line converter: BinaryBestiary input.json|directory output.bin
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BinaryBestiary <enemies.json or directory> <output file>");
+            System.exit(2);
+        }
+        List<LoadDiagnostic> diagnostics = convert(Path.of(args[0]), Path.of(args[1]));
+        diagnostics.forEach(System.err::println);
+    }
+
+    /**
+     * Hash used by the id index
+     */
+    static int idHash(String id) {
+        return id.hashCode();
+    }
+
+    /**
+     * Hash used by the name index
+     */
+    static int nameHash(String name) {
+        return LookupIndex.fold(name).hashCode();
+    }
+
+    private static void writeIndex(DataOutputStream out, List<Enemy> enemies, boolean byName) throws IOException {
+        long[] entries = new long[enemies.size()];
+        for (int i = 0; i < entries.length; i++) {
+            Enemy enemy = enemies.get(i);
+            int hash = byName ? nameHash(enemy.name()) : idHash(enemy.id());
+            entries[i] = ((long) hash << 32) | i;
+        }
+        Arrays.sort(entries);
+        for (long entry : entries) {
+            out.writeInt((int) (entry >> 32));
+            out.writeInt((int) entry);
+        }
+    }
+
+    private static short toShort(int value, Enemy enemy) {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Value " + value + " of " + enemy.id() + " does not fit the binary format");
+        }
+        return (short) value;
+    }
+
+    /**
+     * Deduplicated UTF-8 strings with their offsets in the string section
+     */
+    private static final class StringTable {
+        final List<byte[]> entries = new ArrayList<>();
+        final Map<String, Integer> offsets = new HashMap<>();
+        long size;
+
+        void add(String value) {
+            if (!offsets.containsKey(value)) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                offsets.put(value, (int) Math.min(size, Integer.MAX_VALUE));
+                entries.add(bytes);
+                size += 4 + bytes.length;
+            }
+        }
+
+        int offset(String value) {
+            return offsets.get(value);
+        }
+    }
+}
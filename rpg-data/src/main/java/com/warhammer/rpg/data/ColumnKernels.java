@@ -0,0 +1,56 @@
+package com.warhammer.rpg.data;
+
+/**
+ * Tight loops over int columns used by StatScan and EnemyQuery. A Vector API
+ * implementation is picked when it was built (mvn -Pvector) and the
+ * jdk.incubator.vector module is available, i.e. when the JVM runs with
+ * --add-modules jdk.incubator.vector, and a scalar one otherwise. Setting
+ * -Dwarhammer.vector=false forces the scalar kernels.
+ */
+abstract class ColumnKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * Best kernels available in this JVM
+     */
+    static ColumnKernels instance() {
+        return Holder.INSTANCE;
+    }
+
+    static ColumnKernels scalar() {
+        return ScalarColumnKernels.INSTANCE;
+    }
+
+    /**
+     * Sum of column[from..to); every value lies within minValue..maxValue
+     */
+    abstract long sum(int[] column, int from, int to, int minValue, int maxValue);
+
+    /**
+     * Clear the bits of mask rows below size whose value is outside min..max
+     */
+    abstract void andRange(long[] mask, int[] column, int size, int min, int max);
+
+    /**
+     * Short name for benchmarks and logs
+     */
+    abstract String name();
+
+    private static final class Holder {
+        static final ColumnKernels INSTANCE = load();
+
+        private static ColumnKernels load() {
+            if (!Boolean.parseBoolean(System.getProperty("warhammer.vector", "true"))
+                    || ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+                return scalar();
+            }
+            try {
+                return (ColumnKernels) Class.forName("com.warhammer.rpg.data.VectorColumnKernels")
+                    .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return scalar();
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.ResolvedCombatant;
+import com.warhammer.rpg.model.Weapon;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Enemies linked to their weapons. Every weaponName is looked up once when the
+ * roster is built, so combat code works with direct Weapon references. Enemies
+ * without a weapon or naming a weapon that does not exist are left out and
+ * reported in the diagnostics. Immutable; link again after a reload.
+ */
+public final class CombatantRoster {
+
+    static final String SOURCE = "weapon links";
+
+    private final List<ResolvedCombatant> combatants;
+    private final List<LoadDiagnostic> diagnostics;
+    private final LookupIndex<ResolvedCombatant> index;
+
+    private CombatantRoster(List<ResolvedCombatant> combatants, List<LoadDiagnostic> diagnostics) {
+        this.combatants = combatants;
+        this.diagnostics = diagnostics;
+        this.index = LookupIndex.build(combatants, ResolvedCombatant::id, ResolvedCombatant::name);
+    }
+
+    /**
+     * Link every enemy to its weapon by name, ignoring case
+     */
+    public static CombatantRoster link(EnemyLookup enemies, WeaponRepository weapons) {
+        return link(enemies.getAllEnemies(), weapons);
+    }
+
+    public static CombatantRoster link(List<Enemy> enemies, WeaponRepository weapons) {
+        List<ResolvedCombatant> linked = new ArrayList<>(enemies.size());
+        List<LoadDiagnostic> problems = new ArrayList<>();
+        // Weapon names are pooled at load, so most lookups hit this cache
+        Map<String, Optional<Weapon>> resolved = new HashMap<>();
+        for (Enemy enemy : enemies) {
+            String weaponName = enemy.weaponName();
+            if (weaponName.isBlank()) {
+                problems.add(new LoadDiagnostic(SOURCE, 0, 0,
+                    "Enemy '" + enemy.id() + "' has no weapon"));
+                continue;
+            }
+            Optional<Weapon> weapon = resolved.computeIfAbsent(weaponName, weapons::findByName);
+            if (weapon.isPresent()) {
+                linked.add(new ResolvedCombatant(enemy, weapon.get()));
+            } else {
+                problems.add(new LoadDiagnostic(SOURCE, 0, 0,
+                    "Enemy '" + enemy.id() + "' uses unknown weapon '" + weaponName + "'"));
+            }
+        }
+        return new CombatantRoster(Collections.unmodifiableList(linked), List.copyOf(problems));
+    }
+
+    /**
+     * Linked combatants in enemy load order
+     */
+    public List<ResolvedCombatant> getCombatants() {
+        return combatants;
+    }
+
+    /**
+     * Find the combatant of an enemy by enemy ID, O(1)
+     */
+    public Optional<ResolvedCombatant> findById(String id) {
+        return index.findById(id);
+    }
+
+    /**
+     * Find the combatant by enemy name ignoring case, O(1)
+     */
+    public Optional<ResolvedCombatant> findByName(String name) {
+        return index.findByName(name);
+    }
+
+    /**
+     * Enemies that could not be linked, one diagnostic each
+     */
+    public List<LoadDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    public int getCombatantCount() {
+        return combatants.size();
+    }
+}
@@ -0,0 +1,117 @@
+package com.warhammer.rpg.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+
+/**
+ * Entries parsed from every *.json file in a directory, kept per file so that
+ * a change only re-parses the files that changed. Entries are combined in
+ * file name order. Each load or reload shares repeated values through a
+ * FlyweightPool.
+ */
+final class DataDirectory<T> {
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final Class<T> type;
+    private final BiFunction<FlyweightPool, T, T> pooling;
+    private final Map<Path, Parsed<T>> files = new TreeMap<>();
+
+    /**
+     * @param pooling rebuilds a parsed entry from pooled parts, e.g. FlyweightPool::enemy
+     */
+    DataDirectory(ObjectMapper objectMapper, Path directory, Class<T> type, BiFunction<FlyweightPool, T, T> pooling) {
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        this.type = type;
+        this.pooling = pooling;
+    }
+
+    Path path() {
+        return directory;
+    }
+
+    /**
+     * Parse every data file in the directory
+     */
+    synchronized Contents<T> loadAll() {
+        files.clear();
+        FlyweightPool pool = new FlyweightPool();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, DataDirectory::isDataFile)) {
+            for (Path file : stream) {
+                files.put(file, parse(file, pool));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to list data directory " + directory, e);
+        }
+        return contents();
+    }
+
+    /**
+     * Re-parse changed files and drop deleted ones. A change to the directory
+     * itself, e.g. after lost watch events, re-reads everything.
+     */
+    synchronized Contents<T> reload(Collection<Path> changed) {
+        if (changed.contains(directory)) {
+            return loadAll();
+        }
+        FlyweightPool pool = new FlyweightPool();
+        for (Path file : changed) {
+            if (!isDataFile(file)) {
+                continue;
+            }
+            if (Files.isRegularFile(file)) {
+                files.put(file, parse(file, pool));
+            } else {
+                files.remove(file);
+            }
+        }
+        return contents();
+    }
+
+    private Contents<T> contents() {
+        List<T> entries = new ArrayList<>();
+        List<LoadDiagnostic> diagnostics = new ArrayList<>();
+        for (Parsed<T> parsed : files.values()) {
+            entries.addAll(parsed.entries());
+            diagnostics.addAll(parsed.diagnostics());
+        }
+        return new Contents<>(List.copyOf(entries), List.copyOf(diagnostics));
+    }
+
+    private Parsed<T> parse(Path file, FlyweightPool pool) {
+        List<T> entries = new ArrayList<>();
+        List<LoadDiagnostic> diagnostics = new ArrayList<>();
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file))) {
+            StreamingJsonLoader.load(objectMapper, inputStream, file.toString(), type,
+                entry -> entries.add(pooling.apply(pool, entry)), diagnostics);
+        } catch (IOException e) {
+            // The file may be half written or gone; the next change event re-reads it
+            diagnostics.add(new LoadDiagnostic(file.toString(), 0, 0, "Could not read file: " + e.getMessage()));
+        }
+        return new Parsed<>(entries, diagnostics);
+    }
+
+    private static boolean isDataFile(Path file) {
+        return file.getFileName() != null && file.getFileName().toString().endsWith(".json");
+    }
+
+    /**
+     * All entries and diagnostics of the directory
+     */
+    record Contents<T>(List<T> entries, List<LoadDiagnostic> diagnostics) {}
+
+    private record Parsed<T>(List<T> entries, List<LoadDiagnostic> diagnostics) {}
+}
@@ -0,0 +1,100 @@
+package com.warhammer.rpg.data;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Watches a directory on a daemon thread and reports changed files in batches.
+ * Events arriving within a short quiet period are collected into one batch,
+ * so an editor saving a file in several writes triggers a single reload.
+ * If events were lost the batch contains the directory itself.
+ * A batch whose callback throws is handed to the error callback and watching
+ * continues.
+ */
+public final class DirectoryWatcher implements AutoCloseable {
+
+    private static final long QUIET_PERIOD_MILLIS = 100;
+
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private DirectoryWatcher(WatchService watchService, Path directory, Consumer<Set<Path>> onChange,
+                             Consumer<RuntimeException> onError) {
+        this.watchService = watchService;
+        this.thread = new Thread(() -> run(directory, onChange, onError), "watch-" + directory.getFileName());
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Start watching; both callbacks run on the watcher thread
+     */
+    public static DirectoryWatcher start(Path directory, Consumer<Set<Path>> onChange,
+                                         Consumer<RuntimeException> onError) {
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            DirectoryWatcher watcher = new DirectoryWatcher(watchService, directory, onChange, onError);
+            watcher.thread.start();
+            return watcher;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to watch directory " + directory, e);
+        }
+    }
+
+    private void run(Path directory, Consumer<Set<Path>> onChange, Consumer<RuntimeException> onError) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Set<Path> changed = new LinkedHashSet<>();
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == OVERFLOW) {
+                            changed.add(directory);
+                        } else {
+                            changed.add(directory.resolve((Path) event.context()));
+                        }
+                    }
+                    if (!key.reset()) {
+                        return;
+                    }
+                    key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                try {
+                    onChange.accept(changed);
+                } catch (RuntimeException e) {
+                    // Keep watching; the next change gets another chance
+                    onError.accept(e);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    /**
+     * Stop watching
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to close directory watcher", e);
+        }
+        thread.interrupt();
+    }
+}
@@ -0,0 +1,26 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Enemy;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read access to a bestiary, independent of how it is stored
+ */
+public interface EnemyLookup {
+
+    /**
+     * All enemies in load order
+     */
+    List<Enemy> getAllEnemies();
+
+    Optional<Enemy> findById(String id);
+
+    /**
+     * Find enemy by name ignoring case
+     */
+    Optional<Enemy> findByName(String name);
+
+    int getEnemyCount();
+}
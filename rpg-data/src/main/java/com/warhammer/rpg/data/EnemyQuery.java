@@ -0,0 +1,305 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Characteristic;
+import com.warhammer.rpg.model.Enemy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fluent range query over enemy characteristics, e.g.
+ * {@code repository.query().atLeast(WEAPON_SKILL, 40).between(TOUGHNESS, 3, 5).sortedBy(AGILITY).list()}.
+ * Conditions on the same characteristic are combined. The query is driven by the
+ * sorted index of the most selective condition and checks the others against the
+ * stat columns; when even the best condition matches a large share of the
+ * bestiary, a sequential scan of the columns is used instead.
+ */
+public final class EnemyQuery {
+
+    /** Above this share of rows a sequential scan beats random index access */
+    private static final int SCAN_FRACTION = 8;
+
+    private final List<Enemy> enemies;
+    private final StatColumns columns;
+    private final Map<Characteristic, int[]> ranges = new EnumMap<>(Characteristic.class);
+    private Characteristic sortKey;
+    private boolean descending;
+    private int limit = Integer.MAX_VALUE;
+
+    EnemyQuery(List<Enemy> enemies, StatColumns columns) {
+        this.enemies = enemies;
+        this.columns = columns;
+    }
+
+    /**
+     * Keep enemies with min <= characteristic <= max
+     */
+    public EnemyQuery between(Characteristic characteristic, int min, int max) {
+        int[] range = ranges.computeIfAbsent(characteristic, c -> new int[] {Integer.MIN_VALUE, Integer.MAX_VALUE});
+        range[0] = Math.max(range[0], min);
+        range[1] = Math.min(range[1], max);
+        return this;
+    }
+
+    public EnemyQuery atLeast(Characteristic characteristic, int min) {
+        return between(characteristic, min, Integer.MAX_VALUE);
+    }
+
+    public EnemyQuery atMost(Characteristic characteristic, int max) {
+        return between(characteristic, Integer.MIN_VALUE, max);
+    }
+
+    /**
+     * Order results by ascending characteristic, ties in load order.
+     * Without a sort, results are in load order.
+     */
+    public EnemyQuery sortedBy(Characteristic characteristic) {
+        this.sortKey = characteristic;
+        this.descending = false;
+        return this;
+    }
+
+    /**
+     * Order results by descending characteristic, ties in load order
+     */
+    public EnemyQuery sortedByDescending(Characteristic characteristic) {
+        this.sortKey = characteristic;
+        this.descending = true;
+        return this;
+    }
+
+    /**
+     * Return at most this many results
+     */
+    public EnemyQuery limit(int maxResults) {
+        if (maxResults < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        this.limit = maxResults;
+        return this;
+    }
+
+    /**
+     * Number of matching enemies, ignoring the limit
+     */
+    public int count() {
+        if (ranges.size() == 1) {
+            Map.Entry<Characteristic, int[]> only = ranges.entrySet().iterator().next();
+            return columns.countInRange(only.getKey(), only.getValue()[0], only.getValue()[1]);
+        }
+        int count = 0;
+        for (long word : matchMask()) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Run the query
+     */
+    public List<Enemy> list() {
+        int[] rows;
+        if (sortKey != null && limit < columns.size() && walkSortIndex()) {
+            rows = firstRowsInSortOrder();
+        } else {
+            rows = matchingRows();
+            if (sortKey != null) {
+                sortRows(rows);
+            }
+        }
+        int resultSize = Math.min(limit, rows.length);
+        List<Enemy> result = new ArrayList<>(resultSize);
+        for (int i = 0; i < resultSize; i++) {
+            result.add(enemies.get(rows[i]));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Load positions of the matching enemies, ignoring sort and limit
+     */
+    BitSet matchSet() {
+        return BitSet.valueOf(matchMask());
+    }
+
+    /**
+     * Matching rows in load order
+     */
+    private int[] matchingRows() {
+        long[] mask = matchMask();
+        int count = 0;
+        for (long word : mask) {
+            count += Long.bitCount(word);
+        }
+        int[] rows = new int[count];
+        int found = 0;
+        for (int w = 0; w < mask.length; w++) {
+            long word = mask[w];
+            while (word != 0) {
+                rows[found++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Bit mask over rows of the enemies matching every condition.
+     * A selective driving condition marks its rows from the sorted index and the
+     * other conditions are checked in row order; otherwise every condition is
+     * evaluated over its whole column, 64 rows per mask word, without branches.
+     */
+    private long[] matchMask() {
+        int size = columns.size();
+        long[] mask = new long[(size + 63) >>> 6];
+        Characteristic driver = null;
+        int driverCount = size;
+        for (Map.Entry<Characteristic, int[]> range : ranges.entrySet()) {
+            int count = columns.countInRange(range.getKey(), range.getValue()[0], range.getValue()[1]);
+            if (count < driverCount || driver == null) {
+                driver = range.getKey();
+                driverCount = count;
+            }
+        }
+        if (driver == null) {
+            Arrays.fill(mask, -1L);
+            clearTail(mask, size);
+            return mask;
+        }
+        if (driverCount == 0) {
+            return mask;
+        }
+
+        if (driverCount > size / SCAN_FRACTION) {
+            Arrays.fill(mask, -1L);
+            ColumnKernels kernels = ColumnKernels.instance();
+            for (Map.Entry<Characteristic, int[]> range : ranges.entrySet()) {
+                kernels.andRange(mask, columns.column(range.getKey()), size, range.getValue()[0], range.getValue()[1]);
+            }
+            clearTail(mask, size);
+            return mask;
+        }
+
+        int[] sortedRows = columns.sortedRows(driver);
+        int from = columns.lowerBound(driver, ranges.get(driver)[0]);
+        for (int i = from; i < from + driverCount; i++) {
+            int row = sortedRows[i];
+            mask[row >>> 6] |= 1L << row;
+        }
+        for (Map.Entry<Characteristic, int[]> range : ranges.entrySet()) {
+            if (range.getKey() == driver) {
+                continue;
+            }
+            int[] column = columns.column(range.getKey());
+            int min = range.getValue()[0];
+            int max = range.getValue()[1];
+            for (int w = 0; w < mask.length; w++) {
+                long word = mask[w];
+                while (word != 0) {
+                    long bit = word & -word;
+                    int value = column[(w << 6) + Long.numberOfTrailingZeros(word)];
+                    if (value < min || value > max) {
+                        mask[w] &= ~bit;
+                    }
+                    word ^= bit;
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static void clearTail(long[] mask, int size) {
+        if ((size & 63) != 0) {
+            mask[mask.length - 1] &= (1L << size) - 1;
+        }
+    }
+
+    /**
+     * Whether walking the sort index until the limit is reached is expected to
+     * touch fewer rows than collecting and sorting every match
+     */
+    private boolean walkSortIndex() {
+        int size = columns.size();
+        long best = size;
+        for (Map.Entry<Characteristic, int[]> range : ranges.entrySet()) {
+            best = Math.min(best, columns.countInRange(range.getKey(), range.getValue()[0], range.getValue()[1]));
+        }
+        if (best == 0) {
+            return false;
+        }
+        // Assume matches are spread evenly over the sort order
+        long expectedVisits = (long) limit * size / best;
+        return expectedVisits < best;
+    }
+
+    /**
+     * Walk the sort characteristic's index in result order and keep the first
+     * matching rows up to the limit
+     */
+    private int[] firstRowsInSortOrder() {
+        Characteristic[] keys = ranges.keySet().toArray(new Characteristic[0]);
+        int[][] checked = new int[keys.length][];
+        int[] mins = new int[keys.length];
+        int[] maxs = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            checked[i] = columns.column(keys[i]);
+            mins[i] = ranges.get(keys[i])[0];
+            maxs[i] = ranges.get(keys[i])[1];
+        }
+        int[] sortedRows = columns.sortedRows(sortKey);
+        int[] column = columns.column(sortKey);
+        int[] rows = new int[limit];
+        int found = 0;
+        if (!descending) {
+            for (int i = 0; i < sortedRows.length && found < limit; i++) {
+                if (matches(checked, mins, maxs, sortedRows[i])) {
+                    rows[found++] = sortedRows[i];
+                }
+            }
+        } else {
+            // Runs of equal values from the top, each run in load order
+            int end = sortedRows.length;
+            while (end > 0 && found < limit) {
+                int start = columns.lowerBound(sortKey, column[sortedRows[end - 1]]);
+                for (int i = start; i < end && found < limit; i++) {
+                    if (matches(checked, mins, maxs, sortedRows[i])) {
+                        rows[found++] = sortedRows[i];
+                    }
+                }
+                end = start;
+            }
+        }
+        return found == rows.length ? rows : Arrays.copyOf(rows, found);
+    }
+
+    private static boolean matches(int[][] checked, int[] mins, int[] maxs, int row) {
+        for (int i = 0; i < checked.length; i++) {
+            int value = checked[i][row];
+            if (value < mins[i] || value > maxs[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stable sort of rows already in load order by the sort characteristic
+     */
+    private void sortRows(int[] rows) {
+        int[] column = columns.column(sortKey);
+        long[] keys = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            int value = column[rows[i]];
+            keys[i] = StatColumns.sortKey(descending ? ~value : value, rows[i]);
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = (int) keys[i];
+        }
+    }
+}
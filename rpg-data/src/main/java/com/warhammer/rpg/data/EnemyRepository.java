@@ -1,29 +1,83 @@
 package com.warhammer.rpg.data;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.warhammer.rpg.model.Ability;
+import com.warhammer.rpg.model.Characteristic;
 import com.warhammer.rpg.model.Enemy;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
- * Repository for loading and managing enemy data from JSON
+ * Repository for loading and managing enemy data from JSON.
+ * The data and its indexes form an immutable snapshot that is replaced as a
+ * whole on reload, so readers never block and never see a partial load.
  */
-public class EnemyRepository {
+public class EnemyRepository implements EnemyLookup {
     
     private final ObjectMapper objectMapper;
-    private List<Enemy> enemies;
+    private final DataDirectory<Enemy> directory;
+    private volatile Snapshot snapshot;
     
     public EnemyRepository() {
-        this.objectMapper = new ObjectMapper();
+        this(JsonSupport.sharedMapper());
+    }
+    
+    /**
+     * Load the bundled enemies with the given mapper
+     */
+    public EnemyRepository(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.directory = null;
         loadEnemies();
     }
     
     /**
-     * Load enemies from JSON file
+     * Load enemies from a JSON file containing an array of entries, or from
+     * every *.json file in a directory
+     */
+    public EnemyRepository(ObjectMapper objectMapper, Path path) {
+        this.objectMapper = objectMapper;
+        if (Files.isDirectory(path)) {
+            this.directory = new DataDirectory<>(objectMapper, path, Enemy.class, FlyweightPool::enemy);
+            DataDirectory.Contents<Enemy> contents = directory.loadAll();
+            this.snapshot = new Snapshot(contents.entries(), contents.diagnostics());
+        } else {
+            this.directory = null;
+            try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+                loadEnemies(inputStream, path.toString());
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to load enemies from " + path, e);
+            }
+        }
+    }
+    
+    public EnemyRepository(Path path) {
+        this(JsonSupport.sharedMapper(), path);
+    }
+    
+    /**
+     * Create a repository over already loaded enemies
+     */
+    public EnemyRepository(List<Enemy> enemies) {
+        this.objectMapper = JsonSupport.sharedMapper();
+        this.directory = null;
+        this.snapshot = new Snapshot(List.copyOf(enemies), List.of());
+    }
+    
+    /**
+     * Load enemies from the bundled JSON file
      */
     private void loadEnemies() {
         try (InputStream inputStream = getClass().getClassLoader()
@@ -33,60 +87,207 @@ public class EnemyRepository {
                 throw new RuntimeException("Could not find enemies.json in resources");
             }
             
-            this.enemies = objectMapper.readValue(inputStream, new TypeReference<List<Enemy>>() {});
+            loadEnemies(inputStream, "enemies.json");
             
         } catch (IOException e) {
             throw new RuntimeException("Failed to load enemies data", e);
         }
     }
     
+    /**
+     * Stream enemies from JSON one entry at a time; invalid entries are skipped
+     * and reported in the load diagnostics. Repeated values are shared through
+     * a FlyweightPool.
+     */
+    private void loadEnemies(InputStream inputStream, String source) throws IOException {
+        List<Enemy> loaded = new ArrayList<>();
+        List<LoadDiagnostic> problems = new ArrayList<>();
+        FlyweightPool pool = new FlyweightPool();
+        StreamingJsonLoader.load(objectMapper, inputStream, source, Enemy.class,
+                enemy -> loaded.add(pool.enemy(enemy)), problems);
+        this.snapshot = new Snapshot(List.copyOf(loaded), List.copyOf(problems));
+    }
+    
+    /**
+     * Re-read every file of the data directory and publish the result
+     */
+    public void reload() {
+        requireDirectory();
+        publish(directory::loadAll);
+    }
+    
+    /**
+     * Watch the data directory and re-parse changed files in the background.
+     * Each reload publishes a new snapshot and then calls onReload on the
+     * watcher thread. A reload that fails keeps the current entries and adds
+     * the failure to the load diagnostics. Close the returned watcher to stop.
+     */
+    public DirectoryWatcher watchForChanges(Runnable onReload) {
+        requireDirectory();
+        return DirectoryWatcher.start(directory.path(), changed -> {
+            try {
+                publish(() -> directory.reload(changed));
+            } catch (RuntimeException e) {
+                reportReloadFailure(e);
+            }
+            onReload.run();
+        }, this::reportReloadFailure);
+    }
+    
+    /**
+     * Build a snapshot from the directory contents and swap it in; serialized so
+     * an older load can never replace a newer one
+     */
+    private void publish(Supplier<DataDirectory.Contents<Enemy>> load) {
+        synchronized (directory) {
+            DataDirectory.Contents<Enemy> contents = load.get();
+            this.snapshot = new Snapshot(contents.entries(), contents.diagnostics());
+        }
+    }
+    
+    /**
+     * Keep the current enemies and add the failure to the load diagnostics
+     */
+    private void reportReloadFailure(RuntimeException e) {
+        synchronized (directory) {
+            Snapshot current = snapshot;
+            List<LoadDiagnostic> diagnostics = new ArrayList<>(current.diagnostics);
+            diagnostics.add(new LoadDiagnostic(directory.path().toString(), 0, 0, "Reload failed: " + e));
+            this.snapshot = new Snapshot(current.enemies, List.copyOf(diagnostics));
+        }
+    }
+    
+    private void requireDirectory() {
+        if (directory == null) {
+            throw new IllegalStateException("Repository was not loaded from a data directory");
+        }
+    }
+    
     /**
      * Get all enemies
      */
+    @Override
     public List<Enemy> getAllEnemies() {
-        return List.copyOf(enemies);
+        return snapshot.enemies;
     }
     
     /**
-     * Find enemy by ID
+     * Find enemy by ID, O(1)
      */
+    @Override
     public Optional<Enemy> findById(String id) {
-        return enemies.stream()
-                .filter(enemy -> enemy.id().equals(id))
-                .findFirst();
+        return snapshot.index.findById(id);
     }
     
     /**
-     * Find enemy by name
+     * Find enemy by name ignoring case, O(1)
      */
+    @Override
     public Optional<Enemy> findByName(String name) {
-        return enemies.stream()
-                .filter(enemy -> enemy.name().equalsIgnoreCase(name))
-                .findFirst();
+        return snapshot.index.findByName(name);
     }
     
     /**
-     * Find enemies by ability
+     * Find enemies by ability, ignoring case
      */
     public List<Enemy> findByAbility(String abilityName) {
-        return enemies.stream()
-                .filter(enemy -> enemy.hasAbility(abilityName))
-                .toList();
+        return snapshot.abilityIndex.find(abilityName);
+    }
+    
+    /**
+     * Find enemies having every one of the abilities
+     */
+    public List<Enemy> findByAllAbilities(Collection<String> abilityNames) {
+        return snapshot.abilityIndex.findAll(abilityNames);
+    }
+    
+    /**
+     * Find enemies having at least one of the abilities
+     */
+    public List<Enemy> findByAnyAbility(Collection<String> abilityNames) {
+        return snapshot.abilityIndex.findAny(abilityNames);
     }
     
     /**
      * Find enemies with minimum weapon skill
      */
     public List<Enemy> findByMinimumWeaponSkill(int minWS) {
-        return enemies.stream()
-                .filter(enemy -> enemy.stats().weaponSkill() >= minWS)
-                .toList();
+        return query().atLeast(Characteristic.WEAPON_SKILL, minWS).list();
+    }
+    
+    /**
+     * Start a characteristic range query over all enemies
+     */
+    public EnemyQuery query() {
+        Snapshot current = snapshot;
+        return new EnemyQuery(current.enemies, current.statColumns);
+    }
+    
+    /**
+     * Free-text and characteristic search over the current enemies
+     */
+    public EnemySearch search() {
+        return snapshot.search;
+    }
+    
+    /**
+     * Column-oriented view of all enemies' characteristics, rows in load order
+     */
+    public StatColumns getStatColumns() {
+        return snapshot.statColumns;
+    }
+    
+    /**
+     * Mean of a characteristic per group, e.g. average Toughness by weapon,
+     * in order of each group's first enemy
+     */
+    public Map<String, Double> averageBy(Characteristic characteristic, Function<Enemy, String> groupKey) {
+        Snapshot current = snapshot;
+        Map<String, Integer> groups = new LinkedHashMap<>();
+        int[] groupOf = new int[current.enemies.size()];
+        for (int row = 0; row < groupOf.length; row++) {
+            groupOf[row] = groups.computeIfAbsent(groupKey.apply(current.enemies.get(row)), key -> groups.size());
+        }
+        double[] means = current.statColumns.scan().meanBy(characteristic, groupOf, groups.size());
+        Map<String, Double> result = new LinkedHashMap<>();
+        groups.forEach((key, group) -> result.put(key, means[group]));
+        return result;
+    }
+    
+    /**
+     * Problems found while loading, such as skipped invalid entries
+     */
+    public List<LoadDiagnostic> getLoadDiagnostics() {
+        return snapshot.diagnostics;
     }
     
     /**
      * Get enemy count
      */
+    @Override
     public int getEnemyCount() {
-        return enemies.size();
+        return snapshot.enemies.size();
+    }
+    
+    /**
+     * Enemies with all their indexes, built completely before being published
+     */
+    private static final class Snapshot {
+        final List<Enemy> enemies;
+        final List<LoadDiagnostic> diagnostics;
+        final LookupIndex<Enemy> index;
+        final InvertedIndex<Enemy> abilityIndex;
+        final StatColumns statColumns;
+        final EnemySearch search;
+        
+        Snapshot(List<Enemy> enemies, List<LoadDiagnostic> diagnostics) {
+            this.enemies = enemies;
+            this.diagnostics = diagnostics;
+            this.index = LookupIndex.build(enemies, Enemy::id, Enemy::name);
+            this.abilityIndex = InvertedIndex.build(enemies,
+                    enemy -> enemy.abilities().stream().map(Ability::name).toList());
+            this.statColumns = StatColumns.build(enemies);
+            this.search = new EnemySearch(enemies, statColumns, abilityIndex);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,139 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Characteristic;
+import com.warhammer.rpg.model.Enemy;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Free-text search over one snapshot of a bestiary, answered from its indexes.
+ * Terms are separated by spaces and must all match:
+ * <pre>
+ * ws&gt;=40  t&lt;4  w=10   characteristic by abbreviation, from the sorted stat indexes
+ * anything else        start of a word of the name, from a sorted word index,
+ *                      or a whole ability name, ignoring case
+ * </pre>
+ * Matches are returned as a BitSet over load positions of enemies(), so a
+ * filter can test a row in O(1). A search is bound to the snapshot it was
+ * taken from and is unaffected by later reloads. Thread-safe.
+ */
+public final class EnemySearch {
+
+    private static final Pattern CONDITION = Pattern.compile("([a-z]+)(<=|>=|<|>|=)(-?\\d{1,9})");
+
+    private final List<Enemy> enemies;
+    private final StatColumns columns;
+    private final InvertedIndex<Enemy> abilityIndex;
+    private volatile PrefixIndex nameIndex;
+
+    EnemySearch(List<Enemy> enemies, StatColumns columns, InvertedIndex<Enemy> abilityIndex) {
+        this.enemies = enemies;
+        this.columns = columns;
+        this.abilityIndex = abilityIndex;
+    }
+
+    /**
+     * The enemies searched, in load order
+     */
+    public List<Enemy> enemies() {
+        return enemies;
+    }
+
+    /**
+     * Load positions of the enemies matching every term; all of them for blank text
+     */
+    public BitSet matches(String text) {
+        BitSet result = new BitSet(enemies.size());
+        result.set(0, enemies.size());
+        if (text == null) {
+            return result;
+        }
+        for (String term : LookupIndex.fold(text).trim().split("\\s+")) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            result.and(matchTerm(term));
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Matching enemies in load order
+     */
+    public List<Enemy> find(String text) {
+        return abilityIndex.select(matches(text));
+    }
+
+    private BitSet matchTerm(String term) {
+        Matcher condition = CONDITION.matcher(term);
+        if (condition.matches()) {
+            Characteristic characteristic = characteristic(condition.group(1));
+            if (characteristic != null) {
+                return matchCondition(characteristic, condition.group(2), Integer.parseInt(condition.group(3)));
+            }
+        }
+        BitSet result = abilityIndex.matchAny(List.of(term));
+        result.or(matchName(term));
+        return result;
+    }
+
+    private BitSet matchCondition(Characteristic characteristic, String operator, int value) {
+        EnemyQuery query = new EnemyQuery(enemies, columns);
+        switch (operator) {
+            case "<" -> query.atMost(characteristic, value - 1);
+            case "<=" -> query.atMost(characteristic, value);
+            case ">" -> query.atLeast(characteristic, value + 1);
+            case ">=" -> query.atLeast(characteristic, value);
+            default -> query.between(characteristic, value, value);
+        }
+        return query.matchSet();
+    }
+
+    private static Characteristic characteristic(String abbreviation) {
+        for (Characteristic characteristic : Characteristic.values()) {
+            if (characteristic.abbreviation().equalsIgnoreCase(abbreviation)) {
+                return characteristic;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Enemies with a name word starting with each word of the term, e.g.
+     * "night-gob" matches "Night Goblin"
+     */
+    private BitSet matchName(String term) {
+        PrefixIndex index = nameIndex();
+        BitSet result = null;
+        for (String word : PrefixIndex.WORD_SEPARATOR.split(term)) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            BitSet matches = index.match(word);
+            if (result == null) {
+                result = matches;
+            } else {
+                result.and(matches);
+            }
+        }
+        return result == null ? new BitSet() : result;
+    }
+
+    /**
+     * Sorted index of name words, built on the first name search
+     */
+    private PrefixIndex nameIndex() {
+        PrefixIndex index = nameIndex;
+        if (index == null) {
+            index = PrefixIndex.build(enemies, Enemy::name);
+            nameIndex = index;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,98 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Ability;
+import com.warhammer.rpg.model.AbilityList;
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.PackedStatBlock;
+import com.warhammer.rpg.model.StatBlock;
+import com.warhammer.rpg.model.Weapon;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Canonical instances of the values that repeat across a bestiary: ability
+ * names and descriptions, whole abilities, ability lists, weapon names, trait
+ * strings, parsed trait sets and stat lines, the latter packed into
+ * PackedStatBlocks. Every parsed entry is rebuilt from the pooled parts, so a
+ * thousand goblins share one "Cowardly" ability, one ability list and one
+ * stat block. Ids and names are left alone since they are
+ * mostly unique. A pool lives for one load and is not thread-safe.
+ */
+public final class FlyweightPool {
+
+    private final Map<String, String> strings = new HashMap<>();
+    private final Map<Ability, Ability> abilities = new HashMap<>();
+    private final Map<List<Ability>, List<Ability>> abilityLists = new HashMap<>();
+    private final Map<StatBlock, StatBlock> statBlocks = new HashMap<>();
+
+    /**
+     * Canonical copy of the string
+     */
+    public String string(String value) {
+        String canonical = strings.putIfAbsent(value, value);
+        return canonical != null ? canonical : value;
+    }
+
+    /**
+     * Canonical ability with canonical name and description
+     */
+    public Ability ability(Ability ability) {
+        Ability canonical = abilities.get(ability);
+        if (canonical == null) {
+            canonical = new Ability(string(ability.name()), string(ability.description()));
+            abilities.put(canonical, canonical);
+        }
+        return canonical;
+    }
+
+    /**
+     * Canonical immutable list of canonical abilities, sharing one ability mask
+     */
+    public List<Ability> abilities(List<Ability> list) {
+        if (list.isEmpty()) {
+            return AbilityList.of(list);
+        }
+        List<Ability> canonical = abilityLists.get(list);
+        if (canonical == null) {
+            List<Ability> pooled = new ArrayList<>(list.size());
+            for (Ability ability : list) {
+                pooled.add(ability(ability));
+            }
+            canonical = AbilityList.of(pooled);
+            abilityLists.put(canonical, canonical);
+        }
+        return canonical;
+    }
+
+    /**
+     * Canonical equal stat block, packed when its values fit a PackedStatBlock
+     */
+    public StatBlock statBlock(StatBlock stats) {
+        StatBlock canonical = statBlocks.get(stats);
+        if (canonical == null) {
+            canonical = PackedStatBlock.of(stats);
+            statBlocks.put(canonical, canonical);
+        }
+        return canonical;
+    }
+
+    /**
+     * Equal enemy built from pooled parts
+     */
+    public Enemy enemy(Enemy enemy) {
+        Enemy pooled = new Enemy(enemy.id(), enemy.name(), statBlock(enemy.stats()), abilities(enemy.abilities()),
+            string(enemy.weaponName()), enemy.currentWounds());
+        // Enemy reads a zero as "full wounds", so defeat is carried over separately
+        return enemy.isAlive() ? pooled : pooled.withCurrentWounds(0);
+    }
+
+    /**
+     * Equal weapon with a pooled trait string
+     */
+    public Weapon weapon(Weapon weapon) {
+        return new Weapon(weapon.id(), weapon.name(), weapon.damage(), string(weapon.traits()));
+    }
+}
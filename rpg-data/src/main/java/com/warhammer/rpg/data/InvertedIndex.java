@@ -0,0 +1,104 @@
+package com.warhammer.rpg.data;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable inverted index from case-folded keys to the positions of the items
+ * carrying them, built once at load. Each key maps to a BitSet over item
+ * positions, so AND and OR queries are bitset intersections and unions and
+ * results come back in load order.
+ */
+final class InvertedIndex<T> {
+
+    private static final BitSet EMPTY = new BitSet();
+
+    private final List<T> items;
+    private final Map<String, BitSet> postings;
+
+    private InvertedIndex(List<T> items, Map<String, BitSet> postings) {
+        this.items = items;
+        this.postings = postings;
+    }
+
+    static <T> InvertedIndex<T> build(List<T> items, Function<T, ? extends Collection<String>> keysOf) {
+        Map<String, BitSet> postings = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            for (String key : keysOf.apply(items.get(i))) {
+                if (key != null && !key.isBlank()) {
+                    postings.computeIfAbsent(fold(key), k -> new BitSet()).set(i);
+                }
+            }
+        }
+        return new InvertedIndex<>(items, postings);
+    }
+
+    /**
+     * Items carrying the key
+     */
+    List<T> find(String key) {
+        return select(postings(key));
+    }
+
+    /**
+     * Items carrying every key; all items for an empty query
+     */
+    List<T> findAll(Collection<String> keys) {
+        return select(matchAll(keys));
+    }
+
+    /**
+     * Items carrying at least one of the keys
+     */
+    List<T> findAny(Collection<String> keys) {
+        return select(matchAny(keys));
+    }
+
+    BitSet matchAll(Collection<String> keys) {
+        BitSet result = new BitSet(items.size());
+        result.set(0, items.size());
+        for (String key : keys) {
+            result.and(postings(key));
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    BitSet matchAny(Collection<String> keys) {
+        BitSet result = new BitSet(items.size());
+        for (String key : keys) {
+            result.or(postings(key));
+        }
+        return result;
+    }
+
+    /**
+     * Items at the set positions, in load order
+     */
+    List<T> select(BitSet positions) {
+        List<T> result = new ArrayList<>(positions.cardinality());
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            result.add(items.get(i));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private BitSet postings(String key) {
+        if (key == null) {
+            return EMPTY;
+        }
+        return postings.getOrDefault(fold(key), EMPTY);
+    }
+
+    private static String fold(String key) {
+        return LookupIndex.fold(key.trim());
+    }
+}
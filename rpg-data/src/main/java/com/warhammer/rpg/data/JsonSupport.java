@@ -0,0 +1,63 @@
+package com.warhammer.rpg.data;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.warhammer.rpg.model.Ability;
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.Weapon;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Shared Jackson configuration for the repositories.
+ * Building an ObjectMapper and introspecting the record types is the slow part
+ * of a first load, so one mapper is created per JVM and warmed up by reading a
+ * minimal enemy and weapon document. The warm-up enemy has no abilities, so it
+ * registers nothing in AbilityRegistry; the ability type is warmed on its own.
+ * ObjectMapper is thread-safe once configured.
+ */
+public final class JsonSupport {
+
+    static final TypeReference<List<Enemy>> ENEMY_LIST = new TypeReference<>() {};
+    static final TypeReference<List<Weapon>> WEAPON_LIST = new TypeReference<>() {};
+
+    private static final String WARM_UP_ENEMIES = """
+        [{"id": "warm-up", "name": "Warm Up",
+          "stats": {"weaponSkill": 1, "ballisticSkill": 1, "strength": 1, "toughness": 1, "agility": 1,
+                    "intelligence": 1, "willPower": 1, "fellowship": 1, "attacks": 1, "wounds": 1},
+          "abilities": [], "weaponName": "", "currentWounds": 1}]
+        """;
+    private static final String WARM_UP_ABILITY = """
+        {"name": "Warm Up", "description": ""}
+        """;
+    private static final String WARM_UP_WEAPONS = """
+        [{"id": "warm-up", "name": "Warm Up", "damage": 0, "traits": ""}]
+        """;
+
+    private JsonSupport() {
+    }
+
+    /**
+     * The shared, pre-warmed mapper; created on first use
+     */
+    public static ObjectMapper sharedMapper() {
+        return Holder.MAPPER;
+    }
+
+    private static final class Holder {
+        static final ObjectMapper MAPPER = createWarmedMapper();
+    }
+
+    private static ObjectMapper createWarmedMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        try {
+            mapper.readValue(WARM_UP_ENEMIES, ENEMY_LIST);
+            mapper.readValue(WARM_UP_ABILITY, Ability.class);
+            mapper.readValue(WARM_UP_WEAPONS, WEAPON_LIST);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to initialize JSON mapper", e);
+        }
+        return mapper;
+    }
+}
@@ -0,0 +1,17 @@
+package com.warhammer.rpg.data;
+
+/**
+ * Problem found while loading data, such as an invalid entry that was skipped
+ */
+public record LoadDiagnostic(
+    String source,
+    int line,
+    int column,
+    String message
+) {
+
+    @Override
+    public String toString() {
+        return source + ":" + line + ":" + column + ": " + message;
+    }
+}
@@ -0,0 +1,56 @@
+package com.warhammer.rpg.data;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Immutable hash index by exact id and case-folded name, built once at load.
+ * When several items share an id or name the first one wins, matching the
+ * findFirst semantics of a linear scan.
+ */
+final class LookupIndex<T> {
+
+    private final Map<String, T> byId;
+    private final Map<String, T> byName;
+
+    private LookupIndex(Map<String, T> byId, Map<String, T> byName) {
+        this.byId = byId;
+        this.byName = byName;
+    }
+
+    static <T> LookupIndex<T> build(List<T> items, Function<T, String> idOf, Function<T, String> nameOf) {
+        int capacity = (int) (items.size() / 0.75f) + 1;
+        Map<String, T> byId = new HashMap<>(capacity);
+        Map<String, T> byName = new HashMap<>(capacity);
+        for (T item : items) {
+            String id = idOf.apply(item);
+            if (id != null) {
+                byId.putIfAbsent(id, item);
+            }
+            String name = nameOf.apply(item);
+            if (name != null) {
+                byName.putIfAbsent(fold(name), item);
+            }
+        }
+        return new LookupIndex<>(byId, byName);
+    }
+
+    Optional<T> findById(String id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+
+    Optional<T> findByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(byName.get(fold(name)));
+    }
+
+    /**
+     * Normalize a name for case-insensitive lookup
+     */
+    static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
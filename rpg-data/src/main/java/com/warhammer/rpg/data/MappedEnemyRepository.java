@@ -0,0 +1,301 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Ability;
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Characteristic;
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.PackedStatBlock;
+import com.warhammer.rpg.model.StatBlock;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Enemy repository reading a BinaryBestiary file through a read-only memory
+ * mapping. Opening only validates the header; records, strings and the id and
+ * name indexes are read in place, and Enemy objects are created only when an
+ * entry is accessed. The mapping is backed by the OS page cache, so several
+ * JVMs opening the same file share its memory. Safe for concurrent readers.
+ * <p>
+ * Close the repository when done: the mapping is otherwise only released
+ * when the buffer is garbage collected. Every read holds a read lock and
+ * closing takes the write lock, so the file is never unmapped under a reader.
+ * Reads after closing, including through getAllEnemies(), throw
+ * IllegalStateException.
+ */
+public class MappedEnemyRepository implements EnemyLookup, AutoCloseable {
+
+    /** Unsafe.invokeCleaner bound to the Unsafe instance, or null if unavailable */
+    private static final MethodHandle UNMAPPER = unmapper();
+
+    // Guards buffer: reads hold the read lock, close() the write lock
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private MappedByteBuffer buffer;
+    private final int count;
+    private final int recordsOffset;
+    private final int abilitiesOffset;
+    private final int idIndexOffset;
+    private final int nameIndexOffset;
+    private final int stringsOffset;
+    private final List<Enemy> view;
+
+    public MappedEnemyRepository(Path file) {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Bestiary file too large to map: " + file);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to map bestiary " + file, e);
+        }
+        if (buffer.capacity() < BinaryBestiary.HEADER_SIZE
+                || buffer.getInt(0) != BinaryBestiary.MAGIC
+                || buffer.getInt(4) != BinaryBestiary.FORMAT_VERSION) {
+            unmap(buffer);
+            throw new IllegalArgumentException("Not a binary bestiary file: " + file);
+        }
+        this.buffer = buffer;
+        this.count = buffer.getInt(8);
+        this.recordsOffset = (int) buffer.getLong(16);
+        this.abilitiesOffset = (int) buffer.getLong(24);
+        this.idIndexOffset = (int) buffer.getLong(32);
+        this.nameIndexOffset = (int) buffer.getLong(40);
+        this.stringsOffset = (int) buffer.getLong(48);
+        this.view = new EnemyView();
+    }
+
+    /**
+     * Lazy view materializing each enemy when it is read
+     */
+    @Override
+    public List<Enemy> getAllEnemies() {
+        return view;
+    }
+
+    /**
+     * Enemy at a position in file order
+     */
+    public Enemy get(int index) {
+        checkIndex(index);
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return read(buffer(), index);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    private Enemy read(MappedByteBuffer buffer, int index) {
+        int record = recordsOffset + index * BinaryBestiary.RECORD_SIZE;
+        StatBlock stats = PackedStatBlock.of(new BasicStatBlock(
+            buffer.getShort(record), buffer.getShort(record + 2), buffer.getShort(record + 4),
+            buffer.getShort(record + 6), buffer.getShort(record + 8), buffer.getShort(record + 10),
+            buffer.getShort(record + 12), buffer.getShort(record + 14), buffer.getShort(record + 16),
+            buffer.getShort(record + 18)));
+        int abilityCount = buffer.getShort(record + BinaryBestiary.ABILITY_COUNT_OFFSET);
+        int abilityStart = buffer.getInt(record + BinaryBestiary.ABILITY_START_OFFSET);
+        List<Ability> abilities = new ArrayList<>(abilityCount);
+        for (int i = 0; i < abilityCount; i++) {
+            int ability = abilitiesOffset + (abilityStart + i) * BinaryBestiary.ABILITY_SIZE;
+            abilities.add(new Ability(string(buffer, buffer.getInt(ability)),
+                string(buffer, buffer.getInt(ability + 4))));
+        }
+        int currentWounds = buffer.getShort(record + BinaryBestiary.CURRENT_WOUNDS_OFFSET);
+        Enemy enemy = new Enemy(
+            string(buffer, buffer.getInt(record + BinaryBestiary.ID_OFFSET)),
+            string(buffer, buffer.getInt(record + BinaryBestiary.NAME_OFFSET)),
+            stats,
+            abilities,
+            string(buffer, buffer.getInt(record + BinaryBestiary.WEAPON_OFFSET)),
+            currentWounds);
+        // Zero would mean "full wounds" to Enemy; in the file it means defeated
+        return currentWounds > 0 ? enemy : enemy.withCurrentWounds(0);
+    }
+
+    /**
+     * Characteristic of the enemy at a position, read without creating the enemy
+     */
+    public int getStat(Characteristic characteristic, int index) {
+        checkIndex(index);
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return buffer().getShort(recordsOffset + index * BinaryBestiary.RECORD_SIZE
+                + characteristic.ordinal() * 2);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Find enemy by ID via the file's hash index, O(log n)
+     */
+    @Override
+    public Optional<Enemy> findById(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return find(idIndexOffset, BinaryBestiary.idHash(id), id, BinaryBestiary.ID_OFFSET, false);
+    }
+
+    /**
+     * Find enemy by name ignoring case via the file's hash index, O(log n)
+     */
+    @Override
+    public Optional<Enemy> findByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return find(nameIndexOffset, BinaryBestiary.nameHash(name), name, BinaryBestiary.NAME_OFFSET, true);
+    }
+
+    @Override
+    public int getEnemyCount() {
+        return count;
+    }
+
+    private Optional<Enemy> find(int indexOffset, int hash, String key, int fieldOffset, boolean ignoreCase) {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            MappedByteBuffer buffer = buffer();
+            int index = lookup(buffer, indexOffset, hash, key, fieldOffset, ignoreCase);
+            return index < 0 ? Optional.empty() : Optional.of(read(buffer, index));
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Binary search an index section for the hash, then compare the actual
+     * strings of the candidates; the lowest matching record wins
+     */
+    private int lookup(MappedByteBuffer buffer, int indexOffset, int hash, String key, int fieldOffset,
+                       boolean ignoreCase) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer.getInt(indexOffset + mid * BinaryBestiary.INDEX_ENTRY_SIZE) < hash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < count; i++) {
+            int entry = indexOffset + i * BinaryBestiary.INDEX_ENTRY_SIZE;
+            if (buffer.getInt(entry) != hash) {
+                break;
+            }
+            int record = buffer.getInt(entry + 4);
+            String candidate = string(buffer,
+                buffer.getInt(recordsOffset + record * BinaryBestiary.RECORD_SIZE + fieldOffset));
+            boolean matches = ignoreCase
+                ? LookupIndex.fold(candidate).equals(LookupIndex.fold(key))
+                : candidate.equals(key);
+            if (matches) {
+                return record;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Unmap the file once reads in progress have finished; further reads
+     * throw IllegalStateException
+     */
+    @Override
+    public void close() {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            MappedByteBuffer mapped = buffer;
+            if (mapped != null) {
+                buffer = null;
+                unmap(mapped);
+            }
+        } finally {
+            write.unlock();
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + count);
+        }
+    }
+
+    /**
+     * The mapping; call with the read lock held
+     */
+    private MappedByteBuffer buffer() {
+        MappedByteBuffer mapped = buffer;
+        if (mapped == null) {
+            throw new IllegalStateException("Bestiary is closed");
+        }
+        return mapped;
+    }
+
+    private String string(MappedByteBuffer buffer, int reference) {
+        int position = stringsOffset + reference;
+        int length = buffer.getInt(position);
+        byte[] bytes = new byte[length];
+        buffer.get(position + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void unmap(MappedByteBuffer mapped) {
+        if (UNMAPPER == null) {
+            // Unmapped once the buffer is garbage collected
+            return;
+        }
+        try {
+            UNMAPPER.invokeExact((ByteBuffer) mapped);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to unmap bestiary", e);
+        }
+    }
+
+    private static MethodHandle unmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field instance = unsafeClass.getDeclaredField("theUnsafe");
+            instance.setAccessible(true);
+            return MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(instance.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private final class EnemyView extends AbstractList<Enemy> implements RandomAccess {
+        @Override
+        public Enemy get(int index) {
+            return MappedEnemyRepository.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+}
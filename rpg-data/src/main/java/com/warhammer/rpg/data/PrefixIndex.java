@@ -0,0 +1,81 @@
+package com.warhammer.rpg.data;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable sorted index of the case-folded words of each item's name, built
+ * once. Finding the items with a word starting with a prefix is a binary
+ * search followed by a scan of the matching run, so the cost follows the
+ * number of matches rather than the number of items.
+ */
+final class PrefixIndex {
+
+    /** Anything that is not a letter or digit separates words */
+    static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final int size;
+    private final String[] words;
+    private final int[] positions;
+
+    private PrefixIndex(int size, String[] words, int[] positions) {
+        this.size = size;
+        this.words = words;
+        this.positions = positions;
+    }
+
+    static <T> PrefixIndex build(List<T> items, Function<T, String> nameOf) {
+        record Entry(String word, int position) {}
+        Entry[] entries = new Entry[Math.max(16, items.size() * 2)];
+        int count = 0;
+        for (int i = 0; i < items.size(); i++) {
+            String name = nameOf.apply(items.get(i));
+            if (name == null) {
+                continue;
+            }
+            for (String word : WORD_SEPARATOR.split(LookupIndex.fold(name))) {
+                if (word.isEmpty()) {
+                    continue;
+                }
+                if (count == entries.length) {
+                    entries = Arrays.copyOf(entries, count * 2);
+                }
+                entries[count++] = new Entry(word, i);
+            }
+        }
+        // Stable, so equal words stay in load order
+        Arrays.sort(entries, 0, count, Comparator.comparing(Entry::word));
+        String[] words = new String[count];
+        int[] positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            words[i] = entries[i].word();
+            positions[i] = entries[i].position();
+        }
+        return new PrefixIndex(items.size(), words, positions);
+    }
+
+    /**
+     * Positions of the items with a word starting with the case-folded prefix
+     */
+    BitSet match(String foldedPrefix) {
+        BitSet result = new BitSet(size);
+        int low = 0;
+        int high = words.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (words[mid].compareTo(foldedPrefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < words.length && words[i].startsWith(foldedPrefix); i++) {
+            result.set(positions[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+package com.warhammer.rpg.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads the enemy and weapon repositories concurrently in the background.
+ * Both loads share the pre-warmed mapper from JsonSupport. Callers react to
+ * each future independently, so a UI can show whichever data is ready first.
+ * Once both are loaded, enemies are linked to their weapons.
+ */
+public final class RepositoryBootstrap {
+
+    private final CompletableFuture<EnemyRepository> enemies;
+    private final CompletableFuture<WeaponRepository> weapons;
+    private final CompletableFuture<CombatantRoster> combatants;
+
+    private RepositoryBootstrap(CompletableFuture<EnemyRepository> enemies,
+                                CompletableFuture<WeaponRepository> weapons) {
+        this.enemies = enemies;
+        this.weapons = weapons;
+        this.combatants = enemies.thenCombine(weapons, CombatantRoster::link);
+    }
+
+    /**
+     * Start loading the bundled data on two daemon threads
+     */
+    public static RepositoryBootstrap start() {
+        return start(null, null);
+    }
+
+    /**
+     * Start loading both repositories on two daemon threads, each from its data
+     * directory or file, or from the bundled data when the path is null
+     */
+    public static RepositoryBootstrap start(Path enemyData, Path weaponData) {
+        ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "repository-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletableFuture<ObjectMapper> mapper = CompletableFuture.supplyAsync(JsonSupport::sharedMapper, executor);
+        CompletableFuture<EnemyRepository> enemies = mapper.thenApplyAsync(objectMapper -> enemyData == null
+            ? new EnemyRepository(objectMapper)
+            : new EnemyRepository(objectMapper, enemyData), executor);
+        CompletableFuture<WeaponRepository> weapons = mapper.thenApplyAsync(objectMapper -> weaponData == null
+            ? new WeaponRepository(objectMapper)
+            : new WeaponRepository(objectMapper, weaponData), executor);
+        CompletableFuture.allOf(enemies, weapons).whenComplete((ignored, error) -> executor.shutdown());
+        return new RepositoryBootstrap(enemies, weapons);
+    }
+
+    public CompletableFuture<EnemyRepository> enemies() {
+        return enemies;
+    }
+
+    public CompletableFuture<WeaponRepository> weapons() {
+        return weapons;
+    }
+
+    /**
+     * Enemies linked to their weapons, completes after both repositories
+     */
+    public CompletableFuture<CombatantRoster> combatants() {
+        return combatants;
+    }
+
+    /**
+     * Completes when both repositories are loaded, or exceptionally if either fails
+     */
+    public CompletableFuture<Void> all() {
+        return CompletableFuture.allOf(enemies, weapons);
+    }
+}
@@ -0,0 +1,42 @@
+package com.warhammer.rpg.data;
+
+/**
+ * Plain loops, written so that the JIT can unroll them and avoid branches
+ */
+final class ScalarColumnKernels extends ColumnKernels {
+
+    static final ScalarColumnKernels INSTANCE = new ScalarColumnKernels();
+
+    private ScalarColumnKernels() {
+    }
+
+    @Override
+    long sum(int[] column, int from, int to, int minValue, int maxValue) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += column[i];
+        }
+        return sum;
+    }
+
+    @Override
+    void andRange(long[] mask, int[] column, int size, int min, int max) {
+        long span = (long) max - min;
+        for (int w = 0; w < mask.length; w++) {
+            int base = w << 6;
+            int end = Math.min(64, size - base);
+            long bits = 0;
+            for (int j = 0; j < end; j++) {
+                long offset = (long) column[base + j] - min;
+                // Sign bit clear in both offset and span - offset means in range
+                bits |= (~(offset | (span - offset)) >>> 63) << j;
+            }
+            mask[w] &= bits;
+        }
+    }
+
+    @Override
+    String name() {
+        return "scalar";
+    }
+}
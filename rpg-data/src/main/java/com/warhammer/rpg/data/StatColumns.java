@@ -0,0 +1,150 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Characteristic;
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.StatBlock;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Column-oriented copy of the enemies' stat blocks, one int[] per characteristic
+ * indexed by load position, plus a sorted index per characteristic for range
+ * lookups. Analytics over whole columns go through scan(). Immutable once built.
+ */
+public final class StatColumns {
+
+    private static final Characteristic[] CHARACTERISTICS = Characteristic.values();
+
+    private final int size;
+    private final int[][] columns;
+    private final int[][] sortedValues;
+    private final int[][] sortedRows;
+
+    private StatColumns(int size, int[][] columns, int[][] sortedValues, int[][] sortedRows) {
+        this.size = size;
+        this.columns = columns;
+        this.sortedValues = sortedValues;
+        this.sortedRows = sortedRows;
+    }
+
+    /**
+     * Build the columns and sorted indexes for the enemies in load order
+     */
+    public static StatColumns build(List<Enemy> enemies) {
+        int size = enemies.size();
+        int[][] columns = new int[CHARACTERISTICS.length][size];
+        for (int row = 0; row < size; row++) {
+            StatBlock stats = enemies.get(row).stats();
+            for (Characteristic characteristic : CHARACTERISTICS) {
+                columns[characteristic.ordinal()][row] = characteristic.of(stats);
+            }
+        }
+
+        int[][] sortedValues = new int[CHARACTERISTICS.length][];
+        int[][] sortedRows = new int[CHARACTERISTICS.length][];
+        long[] keys = new long[size];
+        for (int c = 0; c < CHARACTERISTICS.length; c++) {
+            int[] column = columns[c];
+            for (int row = 0; row < size; row++) {
+                keys[row] = sortKey(column[row], row);
+            }
+            Arrays.sort(keys);
+            int[] values = new int[size];
+            int[] rows = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = (int) (keys[i] >> 32);
+                rows[i] = (int) keys[i];
+            }
+            sortedValues[c] = values;
+            sortedRows[c] = rows;
+        }
+        return new StatColumns(size, columns, sortedValues, sortedRows);
+    }
+
+    /**
+     * Number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Value of a characteristic for the enemy at the given load position
+     */
+    public int value(Characteristic characteristic, int row) {
+        return columns[characteristic.ordinal()][row];
+    }
+
+    /**
+     * Number of rows with min <= value <= max, from the sorted index in O(log n)
+     */
+    public int countInRange(Characteristic characteristic, int min, int max) {
+        if (min > max) {
+            return 0;
+        }
+        int[] values = sortedValues[characteristic.ordinal()];
+        return lowerBound(values, max + 1L) - lowerBound(values, min);
+    }
+
+    /**
+     * Smallest value of a characteristic, O(1); the columns must not be empty
+     */
+    public int min(Characteristic characteristic) {
+        return sortedValues[characteristic.ordinal()][0];
+    }
+
+    /**
+     * Largest value of a characteristic, O(1); the columns must not be empty
+     */
+    public int max(Characteristic characteristic) {
+        int[] values = sortedValues[characteristic.ordinal()];
+        return values[values.length - 1];
+    }
+
+    /**
+     * Start a filter and aggregate pass over every row
+     */
+    public StatScan scan() {
+        return new StatScan(this, ColumnKernels.instance());
+    }
+
+    int[] column(Characteristic characteristic) {
+        return columns[characteristic.ordinal()];
+    }
+
+    /**
+     * Rows ordered by ascending value, ties in load order
+     */
+    int[] sortedRows(Characteristic characteristic) {
+        return sortedRows[characteristic.ordinal()];
+    }
+
+    /**
+     * First position in the sorted index whose value is at least the bound
+     */
+    int lowerBound(Characteristic characteristic, long bound) {
+        return lowerBound(sortedValues[characteristic.ordinal()], bound);
+    }
+
+    /**
+     * Sort key ordering by value, then by row; rows must be non-negative
+     */
+    static long sortKey(int value, int row) {
+        return ((long) value << 32) | row;
+    }
+
+    private static int lowerBound(int[] values, long bound) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < bound) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
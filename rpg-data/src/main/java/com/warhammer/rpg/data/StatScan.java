@@ -0,0 +1,230 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Characteristic;
+
+import java.util.Arrays;
+
+/**
+ * Filter and aggregate pass over StatColumns, e.g.
+ * {@code columns.scan().between(TOUGHNESS, 3, 5).mean(WEAPON_SKILL)}.
+ * Each filter is one sequential pass over a column that clears the rows out of
+ * range in a bit mask; aggregates then read only the columns they need. Filters
+ * and sums run on the Vector API kernels when they are available.
+ */
+public final class StatScan {
+
+    private final StatColumns columns;
+    private final ColumnKernels kernels;
+    /** Selected rows, or null while every row is selected */
+    private long[] mask;
+
+    StatScan(StatColumns columns, ColumnKernels kernels) {
+        this.columns = columns;
+        this.kernels = kernels;
+    }
+
+    /**
+     * Keep rows with min <= characteristic <= max
+     */
+    public StatScan between(Characteristic characteristic, int min, int max) {
+        int size = columns.size();
+        if (mask == null) {
+            mask = new long[(size + 63) >>> 6];
+            Arrays.fill(mask, -1L);
+        }
+        kernels.andRange(mask, columns.column(characteristic), size, min, max);
+        return this;
+    }
+
+    public StatScan atLeast(Characteristic characteristic, int min) {
+        return between(characteristic, min, Integer.MAX_VALUE);
+    }
+
+    public StatScan atMost(Characteristic characteristic, int max) {
+        return between(characteristic, Integer.MIN_VALUE, max);
+    }
+
+    /**
+     * Number of selected rows
+     */
+    public int count() {
+        if (mask == null) {
+            return columns.size();
+        }
+        int count = 0;
+        for (long word : mask) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Sum of the characteristic over the selected rows
+     */
+    public long sum(Characteristic characteristic) {
+        int[] column = columns.column(characteristic);
+        int size = columns.size();
+        if (size == 0) {
+            return 0;
+        }
+        int low = columns.min(characteristic);
+        int high = columns.max(characteristic);
+        if (mask == null) {
+            return kernels.sum(column, 0, size, low, high);
+        }
+        long sum = 0;
+        for (int w = 0; w < mask.length; w++) {
+            long word = mask[w];
+            int base = w << 6;
+            if (word == -1L) {
+                sum += kernels.sum(column, base, base + 64, low, high);
+                continue;
+            }
+            while (word != 0) {
+                sum += column[base + Long.numberOfTrailingZeros(word)];
+                word &= word - 1;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Mean of the characteristic over the selected rows, NaN if there are none
+     */
+    public double mean(Characteristic characteristic) {
+        int count = count();
+        return count == 0 ? Double.NaN : (double) sum(characteristic) / count;
+    }
+
+    /**
+     * Smallest value over the selected rows; throws if there are none
+     */
+    public int min(Characteristic characteristic) {
+        if (mask == null) {
+            return requireRows(columns.size(), columns.size() == 0 ? 0 : columns.min(characteristic));
+        }
+        int[] column = columns.column(characteristic);
+        int min = Integer.MAX_VALUE;
+        int seen = 0;
+        for (int w = 0; w < mask.length; w++) {
+            long word = mask[w];
+            while (word != 0) {
+                min = Math.min(min, column[(w << 6) + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+                seen++;
+            }
+        }
+        return requireRows(seen, min);
+    }
+
+    /**
+     * Largest value over the selected rows; throws if there are none
+     */
+    public int max(Characteristic characteristic) {
+        if (mask == null) {
+            return requireRows(columns.size(), columns.size() == 0 ? 0 : columns.max(characteristic));
+        }
+        int[] column = columns.column(characteristic);
+        int max = Integer.MIN_VALUE;
+        int seen = 0;
+        for (int w = 0; w < mask.length; w++) {
+            long word = mask[w];
+            while (word != 0) {
+                max = Math.max(max, column[(w << 6) + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+                seen++;
+            }
+        }
+        return requireRows(seen, max);
+    }
+
+    /**
+     * Number of selected rows per value of the characteristic
+     */
+    public Histogram histogram(Characteristic characteristic) {
+        if (columns.size() == 0) {
+            return new Histogram(0, new int[0]);
+        }
+        int low = columns.min(characteristic);
+        int[] counts = new int[Math.toIntExact((long) columns.max(characteristic) - low + 1)];
+        int[] column = columns.column(characteristic);
+        if (mask == null) {
+            for (int row = 0; row < columns.size(); row++) {
+                counts[column[row] - low]++;
+            }
+        } else {
+            for (int w = 0; w < mask.length; w++) {
+                long word = mask[w];
+                while (word != 0) {
+                    counts[column[(w << 6) + Long.numberOfTrailingZeros(word)] - low]++;
+                    word &= word - 1;
+                }
+            }
+        }
+        return new Histogram(low, counts);
+    }
+
+    /**
+     * Mean of the characteristic per group over the selected rows, where
+     * groupOf[row] is the group of each row in 0..groupCount-1.
+     * Groups without selected rows get NaN.
+     */
+    public double[] meanBy(Characteristic characteristic, int[] groupOf, int groupCount) {
+        if (groupOf.length != columns.size()) {
+            throw new IllegalArgumentException("Need one group per row");
+        }
+        int[] column = columns.column(characteristic);
+        long[] sums = new long[groupCount];
+        int[] counts = new int[groupCount];
+        if (mask == null) {
+            for (int row = 0; row < column.length; row++) {
+                sums[groupOf[row]] += column[row];
+                counts[groupOf[row]]++;
+            }
+        } else {
+            for (int w = 0; w < mask.length; w++) {
+                long word = mask[w];
+                while (word != 0) {
+                    int row = (w << 6) + Long.numberOfTrailingZeros(word);
+                    sums[groupOf[row]] += column[row];
+                    counts[groupOf[row]]++;
+                    word &= word - 1;
+                }
+            }
+        }
+        double[] means = new double[groupCount];
+        for (int group = 0; group < groupCount; group++) {
+            means[group] = counts[group] == 0 ? Double.NaN : (double) sums[group] / counts[group];
+        }
+        return means;
+    }
+
+    private static int requireRows(int seen, int value) {
+        if (seen == 0) {
+            throw new IllegalStateException("No rows selected");
+        }
+        return value;
+    }
+
+    /**
+     * Row counts per value, counts[i] being the number of rows with value min + i
+     */
+    public record Histogram(int min, int[] counts) {
+
+        /**
+         * Number of rows with the given value
+         */
+        public int count(int value) {
+            long index = (long) value - min;
+            return index < 0 || index >= counts.length ? 0 : counts[(int) index];
+        }
+
+        public int total() {
+            int total = 0;
+            for (int count : counts) {
+                total += count;
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.warhammer.rpg.data;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads a JSON array one element at a time from Jackson's token stream.
+ * Only the current element is held as a tree, so memory stays bounded by the
+ * largest entry rather than the whole file. An element that cannot be mapped
+ * is reported with its line and column and skipped; a syntax error ends the
+ * load since the rest of the stream cannot be trusted, but keeps the entries
+ * read so far.
+ */
+final class StreamingJsonLoader {
+
+    /** Diagnostics kept per load; further problems are only counted */
+    static final int MAX_DIAGNOSTICS = 1000;
+
+    private StreamingJsonLoader() {
+    }
+
+    /**
+     * Decode every element of the top-level array and pass it to the sink.
+     * Returns the number of elements passed on.
+     */
+    static <T> int load(ObjectMapper mapper, InputStream inputStream, String source, Class<T> type,
+                        Consumer<? super T> sink, List<LoadDiagnostic> diagnostics) throws IOException {
+        int loaded = 0;
+        int reported = 0;
+        int suppressed = 0;
+        try (JsonParser parser = mapper.getFactory().createParser(inputStream)) {
+            try {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    diagnostics.add(diagnostic(source, parser.currentTokenLocation(), "Expected a JSON array"));
+                    return 0;
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() == null) {
+                        diagnostics.add(diagnostic(source, parser.currentLocation(), "Unexpected end of input"));
+                        break;
+                    }
+                    JsonLocation start = parser.currentTokenLocation();
+                    JsonNode node = parser.readValueAsTree();
+                    try {
+                        sink.accept(mapper.treeToValue(node, type));
+                        loaded++;
+                    } catch (JsonProcessingException | IllegalArgumentException e) {
+                        if (reported++ < MAX_DIAGNOSTICS) {
+                            diagnostics.add(diagnostic(source, start, "Skipped invalid entry: " + describe(e)));
+                        } else {
+                            suppressed++;
+                        }
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                diagnostics.add(diagnostic(source, e.getLocation() != null ? e.getLocation() : parser.currentLocation(),
+                    "Malformed JSON, stopped reading: " + e.getOriginalMessage()));
+            }
+        }
+        if (suppressed > 0) {
+            diagnostics.add(new LoadDiagnostic(source, 0, 0, suppressed + " more invalid entries skipped"));
+        }
+        return loaded;
+    }
+
+    private static LoadDiagnostic diagnostic(String source, JsonLocation location, String message) {
+        return new LoadDiagnostic(source, location.getLineNr(), location.getColumnNr(), message);
+    }
+
+    /**
+     * Message of the innermost cause, which for record validation is the
+     * IllegalArgumentException thrown by the constructor
+     */
+    private static String describe(Exception e) {
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof JsonProcessingException processing) {
+            return processing.getOriginalMessage();
+        }
+        return cause.getMessage();
+    }
+}
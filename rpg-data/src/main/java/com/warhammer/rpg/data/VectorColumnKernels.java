@@ -0,0 +1,75 @@
+package com.warhammer.rpg.data;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernels on the incubating Vector API, processing one preferred-width vector
+ * of rows per step. Only loaded reflectively by ColumnKernels once the module
+ * is known to be present.
+ */
+final class VectorColumnKernels extends ColumnKernels {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    @Override
+    long sum(int[] column, int from, int to, int minValue, int maxValue) {
+        // Lanes add up in ints, folded into the long total before they can overflow
+        long largest = Math.max(Math.max(Math.abs((long) minValue), Math.abs((long) maxValue)), 1);
+        long stepsPerBlock = Math.max(1, Integer.MAX_VALUE / largest);
+        long sum = 0;
+        int i = from;
+        int vectorEnd = from + SPECIES.loopBound(to - from);
+        while (i < vectorEnd) {
+            int blockEnd = (int) Math.min(vectorEnd, i + stepsPerBlock * LANES);
+            IntVector lanes = IntVector.zero(SPECIES);
+            for (; i < blockEnd; i += LANES) {
+                lanes = lanes.add(IntVector.fromArray(SPECIES, column, i));
+            }
+            for (int lane = 0; lane < LANES; lane++) {
+                sum += lanes.lane(lane);
+            }
+        }
+        for (; i < to; i++) {
+            sum += column[i];
+        }
+        return sum;
+    }
+
+    @Override
+    void andRange(long[] mask, int[] column, int size, int min, int max) {
+        int fullWords = size >>> 6;
+        if (LANES > 64 || 64 % LANES != 0) {
+            ScalarColumnKernels.INSTANCE.andRange(mask, column, size, min, max);
+            return;
+        }
+        for (int w = 0; w < fullWords; w++) {
+            int base = w << 6;
+            long bits = 0;
+            for (int j = 0; j < 64; j += LANES) {
+                IntVector values = IntVector.fromArray(SPECIES, column, base + j);
+                VectorMask<Integer> inRange = values.compare(VectorOperators.GE, min)
+                    .and(values.compare(VectorOperators.LE, max));
+                bits |= inRange.toLong() << j;
+            }
+            mask[w] &= bits;
+        }
+        if (fullWords < mask.length) {
+            int base = fullWords << 6;
+            long bits = 0;
+            for (int j = 0; j < size - base; j++) {
+                int value = column[base + j];
+                bits |= (value >= min && value <= max ? 1L : 0L) << j;
+            }
+            mask[fullWords] &= bits;
+        }
+    }
+
+    @Override
+    String name() {
+        return "vector-" + LANES + "x32";
+    }
+}
@@ -1,29 +1,78 @@
 package com.warhammer.rpg.data;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.warhammer.rpg.model.Weapon;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
- * Repository for loading and managing weapon data from JSON
+ * Repository for loading and managing weapon data from JSON.
+ * The data and its indexes form an immutable snapshot that is replaced as a
+ * whole on reload, so readers never block and never see a partial load.
  */
 public class WeaponRepository {
     
     private final ObjectMapper objectMapper;
-    private List<Weapon> weapons;
+    private final DataDirectory<Weapon> directory;
+    private volatile Snapshot snapshot;
     
     public WeaponRepository() {
-        this.objectMapper = new ObjectMapper();
+        this(JsonSupport.sharedMapper());
+    }
+    
+    /**
+     * Load the bundled weapons with the given mapper
+     */
+    public WeaponRepository(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.directory = null;
         loadWeapons();
     }
     
     /**
-     * Load weapons from JSON file
+     * Load weapons from a JSON file containing an array of entries, or from
+     * every *.json file in a directory
+     */
+    public WeaponRepository(ObjectMapper objectMapper, Path path) {
+        this.objectMapper = objectMapper;
+        if (Files.isDirectory(path)) {
+            this.directory = new DataDirectory<>(objectMapper, path, Weapon.class, FlyweightPool::weapon);
+            DataDirectory.Contents<Weapon> contents = directory.loadAll();
+            this.snapshot = new Snapshot(contents.entries(), contents.diagnostics());
+        } else {
+            this.directory = null;
+            try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+                loadWeapons(inputStream, path.toString());
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to load weapons from " + path, e);
+            }
+        }
+    }
+    
+    public WeaponRepository(Path path) {
+        this(JsonSupport.sharedMapper(), path);
+    }
+    
+    /**
+     * Create a repository over already loaded weapons
+     */
+    public WeaponRepository(List<Weapon> weapons) {
+        this.objectMapper = JsonSupport.sharedMapper();
+        this.directory = null;
+        this.snapshot = new Snapshot(List.copyOf(weapons), List.of());
+    }
+    
+    /**
+     * Load weapons from the bundled JSON file
      */
     private void loadWeapons() {
         try (InputStream inputStream = getClass().getClassLoader()
@@ -33,51 +82,152 @@ public class WeaponRepository {
                 throw new RuntimeException("Could not find weapons.json in resources");
             }
             
-            this.weapons = objectMapper.readValue(inputStream, new TypeReference<List<Weapon>>() {});
+            loadWeapons(inputStream, "weapons.json");
             
         } catch (IOException e) {
             throw new RuntimeException("Failed to load weapons data", e);
         }
     }
     
+    /**
+     * Stream weapons from JSON one entry at a time; invalid entries are skipped
+     * and reported in the load diagnostics. Repeated values are shared through
+     * a FlyweightPool.
+     */
+    private void loadWeapons(InputStream inputStream, String source) throws IOException {
+        List<Weapon> loaded = new ArrayList<>();
+        List<LoadDiagnostic> problems = new ArrayList<>();
+        FlyweightPool pool = new FlyweightPool();
+        StreamingJsonLoader.load(objectMapper, inputStream, source, Weapon.class,
+                weapon -> loaded.add(pool.weapon(weapon)), problems);
+        this.snapshot = new Snapshot(List.copyOf(loaded), List.copyOf(problems));
+    }
+    
+    /**
+     * Re-read every file of the data directory and publish the result
+     */
+    public void reload() {
+        requireDirectory();
+        publish(directory::loadAll);
+    }
+    
+    /**
+     * Watch the data directory and re-parse changed files in the background.
+     * Each reload publishes a new snapshot and then calls onReload on the
+     * watcher thread. A reload that fails keeps the current entries and adds
+     * the failure to the load diagnostics. Close the returned watcher to stop.
+     */
+    public DirectoryWatcher watchForChanges(Runnable onReload) {
+        requireDirectory();
+        return DirectoryWatcher.start(directory.path(), changed -> {
+            try {
+                publish(() -> directory.reload(changed));
+            } catch (RuntimeException e) {
+                reportReloadFailure(e);
+            }
+            onReload.run();
+        }, this::reportReloadFailure);
+    }
+    
+    /**
+     * Build a snapshot from the directory contents and swap it in; serialized so
+     * an older load can never replace a newer one
+     */
+    private void publish(Supplier<DataDirectory.Contents<Weapon>> load) {
+        synchronized (directory) {
+            DataDirectory.Contents<Weapon> contents = load.get();
+            this.snapshot = new Snapshot(contents.entries(), contents.diagnostics());
+        }
+    }
+    
+    /**
+     * Keep the current weapons and add the failure to the load diagnostics
+     */
+    private void reportReloadFailure(RuntimeException e) {
+        synchronized (directory) {
+            Snapshot current = snapshot;
+            List<LoadDiagnostic> diagnostics = new ArrayList<>(current.diagnostics);
+            diagnostics.add(new LoadDiagnostic(directory.path().toString(), 0, 0, "Reload failed: " + e));
+            this.snapshot = new Snapshot(current.weapons, List.copyOf(diagnostics));
+        }
+    }
+    
+    private void requireDirectory() {
+        if (directory == null) {
+            throw new IllegalStateException("Repository was not loaded from a data directory");
+        }
+    }
+    
     /**
      * Get all weapons
      */
     public List<Weapon> getAllWeapons() {
-        return List.copyOf(weapons);
+        return snapshot.weapons;
     }
     
     /**
-     * Find weapon by ID
+     * Find weapon by ID, O(1)
      */
     public Optional<Weapon> findById(String id) {
-        return weapons.stream()
-                .filter(weapon -> weapon.id().equals(id))
-                .findFirst();
+        return snapshot.index.findById(id);
     }
     
     /**
-     * Find weapon by name
+     * Find weapon by name ignoring case, O(1)
      */
     public Optional<Weapon> findByName(String name) {
-        return weapons.stream()
-                .filter(weapon -> weapon.name().equalsIgnoreCase(name))
-                .findFirst();
+        return snapshot.index.findByName(name);
     }
     
     /**
-     * Find weapons by trait
+     * Find weapons by trait, matching whole comma-separated trait tokens ignoring case
      */
     public List<Weapon> findByTrait(String trait) {
-        return weapons.stream()
-                .filter(weapon -> weapon.hasTrait(trait))
-                .toList();
+        return snapshot.traitIndex.find(trait);
+    }
+    
+    /**
+     * Find weapons having every one of the traits
+     */
+    public List<Weapon> findByAllTraits(Collection<String> traits) {
+        return snapshot.traitIndex.findAll(traits);
+    }
+    
+    /**
+     * Find weapons having at least one of the traits
+     */
+    public List<Weapon> findByAnyTrait(Collection<String> traits) {
+        return snapshot.traitIndex.findAny(traits);
+    }
+    
+    /**
+     * Problems found while loading, such as skipped invalid entries
+     */
+    public List<LoadDiagnostic> getLoadDiagnostics() {
+        return snapshot.diagnostics;
     }
     
     /**
      * Get weapon count
      */
     public int getWeaponCount() {
-        return weapons.size();
+        return snapshot.weapons.size();
+    }
+    
+    /**
+     * Weapons with all their indexes, built completely before being published
+     */
+    private static final class Snapshot {
+        final List<Weapon> weapons;
+        final List<LoadDiagnostic> diagnostics;
+        final LookupIndex<Weapon> index;
+        final InvertedIndex<Weapon> traitIndex;
+        
+        Snapshot(List<Weapon> weapons, List<LoadDiagnostic> diagnostics) {
+            this.weapons = weapons;
+            this.diagnostics = diagnostics;
+            this.index = LookupIndex.build(weapons, Weapon::id, Weapon::name);
+            this.traitIndex = InvertedIndex.build(weapons, weapon -> weapon.traitSet().tokens());
+        }
     }
-}
\ No newline at end of file
+}
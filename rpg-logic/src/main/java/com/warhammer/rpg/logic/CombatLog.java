@@ -0,0 +1,124 @@
+package com.warhammer.rpg.logic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded combat log. Any thread may append lines; they wait in a lock-free
+ * queue until the consumer thread drains them into a ring buffer holding the
+ * most recent lines. A UI drains once per frame and applies the returned
+ * batch as a single change, so the cost of a frame does not depend on how
+ * many lines were appended since the last one. Only the newest lines up to
+ * the capacity are kept, older ones are dropped.
+ */
+public final class CombatLog {
+
+    /**
+     * Lines evicted from the front and the number of lines added at the end by one drain
+     */
+    public record Batch(List<String> removed, int added) {
+
+        public static final Batch EMPTY = new Batch(List.of(), 0);
+
+        public boolean isEmpty() {
+            return removed.isEmpty() && added == 0;
+        }
+    }
+
+    private final int capacity;
+    private final ConcurrentLinkedQueue<String> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    // Owned by the consumer thread
+    private final String[] lines;
+    private int head;
+    private int size;
+
+    public CombatLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.lines = new String[capacity];
+    }
+
+    /**
+     * Queue a line from any thread. When more lines are waiting than the log
+     * can hold, the oldest waiting line is dropped.
+     */
+    public void append(String line) {
+        if (line == null) {
+            throw new IllegalArgumentException("Log line cannot be null");
+        }
+        pending.offer(line);
+        if (pendingCount.incrementAndGet() > capacity && pending.poll() != null) {
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Move the lines queued so far into the log; call from the consumer thread only
+     */
+    public Batch drain() {
+        int oldSize = size;
+        List<String> removed = null;
+        // Take only what is queued now so that busy producers cannot keep the consumer here
+        int count = pendingCount.get();
+        for (int skip = count - capacity; skip > 0 && pending.poll() != null; skip--) {
+            pendingCount.decrementAndGet();
+            count--;
+        }
+        String line;
+        while (count-- > 0 && (line = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            if (size == capacity) {
+                // At most capacity lines are taken, so only lines from earlier drains are evicted
+                if (removed == null) {
+                    removed = new ArrayList<>();
+                }
+                removed.add(lines[head]);
+                lines[head] = line;
+                head = (head + 1) % capacity;
+            } else {
+                lines[(head + size) % capacity] = line;
+                size++;
+            }
+        }
+        int kept = oldSize - (removed == null ? 0 : removed.size());
+        if (removed == null && size == kept) {
+            return Batch.EMPTY;
+        }
+        return new Batch(removed == null ? List.of() : Collections.unmodifiableList(removed), size - kept);
+    }
+
+    /**
+     * Line at the given position, oldest first; consumer thread only
+     */
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return lines[(head + index) % capacity];
+    }
+
+    /**
+     * Number of drained lines held; consumer thread only
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of lines waiting for the next drain
+     */
+    public int pending() {
+        return pendingCount.get();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -1,6 +1,7 @@
 package com.warhammer.rpg.logic;
 
 import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.ResolvedCombatant;
 import com.warhammer.rpg.model.Weapon;
 
 /**
@@ -17,7 +18,14 @@ public class CombatResolver {
     public CombatResolver() {
         this(new DiceRoller());
     }
-    
+
+    /**
+     * Get the dice roller used for all tests
+     */
+    public DiceRoller getDiceRoller() {
+        return diceRoller;
+    }
+
     /**
      * Resolve an attack between attacker and defender
      */
@@ -44,6 +52,41 @@ public class CombatResolver {
         return new AttackResult(true, finalDamage, hitRoll, damageRoll, toughnessRoll, toughnessPass);
     }
     
+    /**
+     * Resolve an attack with the attacker's linked weapon
+     */
+    public AttackResult resolveAttack(ResolvedCombatant attacker, Enemy defender) {
+        return resolveAttack(attacker.enemy(), defender, attacker.weapon());
+    }
+    
+    /**
+     * Resolve an attack like resolveAttack, rolling the same dice in the same order,
+     * but return only the damage dealt (0 on a miss) without allocating a result
+     */
+    public int resolveAttackDamage(Enemy attacker, Enemy defender, Weapon attackerWeapon) {
+        return resolveAttackDamage(attacker.stats().weaponSkill(), attacker.stats().strength(),
+            attackerWeapon, defender.stats().toughness());
+    }
+    
+    /**
+     * resolveAttackDamage on bare characteristics, for callers that keep them in arrays
+     */
+    public int resolveAttackDamage(int weaponSkill, int strength, Weapon attackerWeapon, int defenderToughness) {
+        if (diceRoller.rollD100() > weaponSkill) {
+            return 0;
+        }
+        int totalDamage = calculateDamage(strength, attackerWeapon.damage(), diceRoller.rollD10());
+        boolean toughnessPass = diceRoller.rollD100() <= defenderToughness;
+        return toughnessPass ? Math.max(1, totalDamage - 1) : totalDamage;
+    }
+    
+    /**
+     * Damage dealt by an attack with the attacker's linked weapon, see resolveAttackDamage
+     */
+    public int resolveAttackDamage(ResolvedCombatant attacker, Enemy defender) {
+        return resolveAttackDamage(attacker.enemy(), defender, attacker.weapon());
+    }
+    
     /**
      * Calculate damage based on Strength + Weapon Damage + Roll
      */
@@ -63,7 +106,14 @@ public class CombatResolver {
      * Calculate initiative for combat order
      */
     public int rollInitiative(Enemy enemy) {
-        return diceRoller.rollD10() + enemy.stats().agility();
+        return rollInitiative(enemy.stats().agility());
+    }
+    
+    /**
+     * Calculate initiative from a bare Agility value
+     */
+    public int rollInitiative(int agility) {
+        return diceRoller.rollD10() + agility;
     }
     
     /**
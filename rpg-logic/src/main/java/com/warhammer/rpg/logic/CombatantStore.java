@@ -0,0 +1,216 @@
+package com.warhammer.rpg.logic;
+
+import com.warhammer.rpg.model.Enemy;
+
+import java.util.Arrays;
+
+/**
+ * Live state of the combatants in an encounter.
+ * Enemy records stay immutable shared templates; per-instance state such as
+ * current wounds and conditions lives in primitive arrays indexed by slot,
+ * so applying damage allocates nothing. Each slot carries a generation that
+ * changes whenever it is released, so holders of a slot can tell whether it
+ * has since been reused. Not thread-safe.
+ */
+public class CombatantStore {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Enemy[] templates;
+    private int[] startingWounds;
+    private int[] currentWounds;
+    private int[] conditions;
+    private int[] generations;
+    private int[] freeSlots;
+    private int freeCount;
+    private int highWater;
+    private int size;
+
+    public CombatantStore(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.templates = new Enemy[capacity];
+        this.startingWounds = new int[capacity];
+        this.currentWounds = new int[capacity];
+        this.conditions = new int[capacity];
+        this.generations = new int[capacity];
+        this.freeSlots = new int[capacity];
+    }
+
+    public CombatantStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Add a combatant based on the template and return its slot.
+     * Slots of released combatants are reused.
+     */
+    public int spawn(Enemy template) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (highWater == templates.length) {
+                grow();
+            }
+            slot = highWater++;
+        }
+        templates[slot] = template;
+        startingWounds[slot] = template.currentWounds();
+        currentWounds[slot] = template.currentWounds();
+        conditions[slot] = 0;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Remove a combatant and make its slot available again
+     */
+    public void release(int slot) {
+        checkSlot(slot);
+        templates[slot] = null;
+        generations[slot]++;
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    /**
+     * Apply damage and return the wounds left, never below zero
+     */
+    public int applyDamage(int slot, int damage) {
+        checkSlot(slot);
+        int remaining = Math.max(0, currentWounds[slot] - damage);
+        currentWounds[slot] = remaining;
+        return remaining;
+    }
+
+    /**
+     * Heal up to the template's maximum wounds and return the new wounds
+     */
+    public int heal(int slot, int healing) {
+        checkSlot(slot);
+        int healed = Math.min(templates[slot].stats().wounds(), currentWounds[slot] + healing);
+        currentWounds[slot] = healed;
+        return healed;
+    }
+
+    /**
+     * Restore wounds to their starting value and clear all conditions
+     */
+    public void restore(int slot) {
+        checkSlot(slot);
+        currentWounds[slot] = startingWounds[slot];
+        conditions[slot] = 0;
+    }
+
+    /**
+     * Generation of the combatant now in the slot; it changes when the slot is released
+     */
+    public int generation(int slot) {
+        checkSlot(slot);
+        return generations[slot];
+    }
+
+    /**
+     * Throw unless the slot still holds the combatant it held at the given generation
+     */
+    public void checkGeneration(int slot, int generation) {
+        checkSlot(slot);
+        if (generations[slot] != generation) {
+            throw new IllegalArgumentException("Combatant in slot " + slot + " has been released");
+        }
+    }
+
+    public int getCurrentWounds(int slot) {
+        checkSlot(slot);
+        return currentWounds[slot];
+    }
+
+    public int getMaxWounds(int slot) {
+        checkSlot(slot);
+        return templates[slot].stats().wounds();
+    }
+
+    public boolean isAlive(int slot) {
+        checkSlot(slot);
+        return currentWounds[slot] > 0;
+    }
+
+    public Enemy getTemplate(int slot) {
+        checkSlot(slot);
+        return templates[slot];
+    }
+
+    public void addCondition(int slot, Condition condition) {
+        checkSlot(slot);
+        conditions[slot] |= condition.mask();
+    }
+
+    public void removeCondition(int slot, Condition condition) {
+        checkSlot(slot);
+        conditions[slot] &= ~condition.mask();
+    }
+
+    public boolean hasCondition(int slot, Condition condition) {
+        checkSlot(slot);
+        return (conditions[slot] & condition.mask()) != 0;
+    }
+
+    /**
+     * Bit mask of all conditions on the combatant, see Condition.mask()
+     */
+    public int getConditionMask(int slot) {
+        checkSlot(slot);
+        return conditions[slot];
+    }
+
+    /**
+     * Immutable Enemy reflecting the current wounds, for display and persistence
+     */
+    public Enemy snapshot(int slot) {
+        checkSlot(slot);
+        Enemy template = templates[slot];
+        return template.currentWounds() == currentWounds[slot]
+            ? template
+            : template.withCurrentWounds(currentWounds[slot]);
+    }
+
+    /**
+     * Number of live slots
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Release every combatant
+     */
+    public void clear() {
+        Arrays.fill(templates, 0, highWater, null);
+        for (int slot = 0; slot < highWater; slot++) {
+            generations[slot]++;
+        }
+        freeCount = 0;
+        highWater = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        int capacity = templates.length * 2;
+        templates = Arrays.copyOf(templates, capacity);
+        startingWounds = Arrays.copyOf(startingWounds, capacity);
+        currentWounds = Arrays.copyOf(currentWounds, capacity);
+        conditions = Arrays.copyOf(conditions, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= highWater || templates[slot] == null) {
+            throw new IllegalArgumentException("No combatant in slot " + slot);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.warhammer.rpg.logic;
+
+/**
+ * Combat conditions that can affect a combatant during an encounter
+ */
+public enum Condition {
+    STUNNED,
+    PRONE,
+    HELPLESS,
+    ENTANGLED,
+    BLINDED,
+    BLEEDING,
+    FLEEING;
+
+    /**
+     * Bit used for this condition in a combatant's condition mask
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+}
@@ -1,20 +1,35 @@
 package com.warhammer.rpg.logic;
 
-import java.util.Random;
+import java.nio.IntBuffer;
+import java.util.Objects;
 
 /**
  * Dice rolling utility for Warhammer Fantasy 2e
  */
 public class DiceRoller {
     
-    private final Random random;
+    private final RandomSource random;
+    
+    public DiceRoller(RandomSource random) {
+        this.random = random;
+    }
     
     public DiceRoller() {
-        this.random = new Random();
+        this(new SplittableRandomSource());
     }
     
+    /**
+     * Seeded roller using java.util.Random, so existing seeds keep their rolls
+     */
     public DiceRoller(long seed) {
-        this.random = new Random(seed);
+        this(new JdkRandomSource(seed));
+    }
+    
+    /**
+     * Create an independent roller for another thread, reproducible from this roller's seed
+     */
+    public DiceRoller split() {
+        return new DiceRoller(random.split());
     }
     
     /**
@@ -49,6 +64,96 @@ public class DiceRoller {
         return total;
     }
     
+    /**
+     * Fill dest[offset, offset + length) with d100 rolls, same sequence as repeated rollD100()
+     */
+    public void rollD100(int[] dest, int offset, int length) {
+        rollDice(dest, offset, length, 100);
+    }
+    
+    /**
+     * Fill the remaining space of the buffer with d100 rolls
+     */
+    public void rollD100(IntBuffer dest) {
+        rollDice(dest, 100);
+    }
+    
+    /**
+     * Fill dest[offset, offset + length) with d10 rolls, same sequence as repeated rollD10()
+     */
+    public void rollD10(int[] dest, int offset, int length) {
+        rollDice(dest, offset, length, 10);
+    }
+    
+    /**
+     * Fill the remaining space of the buffer with d10 rolls
+     */
+    public void rollD10(IntBuffer dest) {
+        rollDice(dest, 10);
+    }
+    
+    /**
+     * Fill dest[offset, offset + length) with d6 rolls, same sequence as repeated rollD6()
+     */
+    public void rollD6(int[] dest, int offset, int length) {
+        rollDice(dest, offset, length, 6);
+    }
+    
+    /**
+     * Fill the remaining space of the buffer with d6 rolls
+     */
+    public void rollD6(IntBuffer dest) {
+        rollDice(dest, 6);
+    }
+    
+    /**
+     * Fill dest[offset, offset + length) with sums of numDice dice,
+     * same sequence as repeated rollMultiple(numDice, sides)
+     */
+    public void rollMultiple(int[] dest, int offset, int length, int numDice, int sides) {
+        Objects.checkFromIndexSize(offset, length, dest.length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            int total = 0;
+            for (int die = 0; die < numDice; die++) {
+                total += random.nextInt(sides);
+            }
+            dest[i] = total + numDice;
+        }
+    }
+    
+    /**
+     * Fill the remaining space of the buffer with sums of numDice dice
+     */
+    public void rollMultiple(IntBuffer dest, int numDice, int sides) {
+        if (dest.hasArray()) {
+            rollMultiple(dest.array(), dest.arrayOffset() + dest.position(), dest.remaining(), numDice, sides);
+            dest.position(dest.limit());
+            return;
+        }
+        while (dest.hasRemaining()) {
+            dest.put(rollMultiple(numDice, sides));
+        }
+    }
+    
+    private void rollDice(int[] dest, int offset, int length, int sides) {
+        Objects.checkFromIndexSize(offset, length, dest.length);
+        random.nextInts(dest, offset, length, sides);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            dest[i]++;
+        }
+    }
+    
+    private void rollDice(IntBuffer dest, int sides) {
+        if (dest.hasArray()) {
+            rollDice(dest.array(), dest.arrayOffset() + dest.position(), dest.remaining(), sides);
+            dest.position(dest.limit());
+            return;
+        }
+        while (dest.hasRemaining()) {
+            dest.put(random.nextInt(sides) + 1);
+        }
+    }
+    
     /**
      * Roll with modifier
      */
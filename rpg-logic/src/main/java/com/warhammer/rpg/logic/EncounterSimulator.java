@@ -0,0 +1,443 @@
+package com.warhammer.rpg.logic;
+
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.ResolvedCombatant;
+import com.warhammer.rpg.model.StatBlock;
+import com.warhammer.rpg.model.Weapon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Monte Carlo simulator that fights two groups of enemies against each other
+ * many times in parallel and aggregates the outcomes
+ */
+public class EncounterSimulator {
+
+    private static final int DEFAULT_MAX_ROUNDS = 100;
+    private static final int MIN_TRIALS_PER_TASK = 256;
+    private static final int MAX_TASKS = 4096;
+
+    private final ForkJoinPool pool;
+    private final RandomSource masterSource;
+    private final int maxRounds;
+
+    public EncounterSimulator(ForkJoinPool pool, RandomSource masterSource, int maxRounds) {
+        if (maxRounds <= 0) {
+            throw new IllegalArgumentException("Max rounds must be positive");
+        }
+        this.pool = pool;
+        this.masterSource = masterSource;
+        this.maxRounds = maxRounds;
+    }
+
+    public EncounterSimulator(ForkJoinPool pool, long seed, int maxRounds) {
+        this(pool, RandomSource.splittable(seed), maxRounds);
+    }
+
+    public EncounterSimulator(long seed) {
+        this(ForkJoinPool.commonPool(), seed, DEFAULT_MAX_ROUNDS);
+    }
+
+    public EncounterSimulator() {
+        this(ForkJoinPool.commonPool(), new SplittableRandomSource(), DEFAULT_MAX_ROUNDS);
+    }
+
+    /**
+     * Simulate the given number of encounters between side A and side B.
+     * Each call draws a fresh stream from the master source; the first call on a simulator
+     * with a given seed is reproducible regardless of the number of cores.
+     */
+    public SimulationResult simulate(List<Enemy> sideA, List<Enemy> sideB,
+                                     Function<Enemy, Weapon> weaponLookup, int trials) {
+        return simulate(link(sideA, weaponLookup), link(sideB, weaponLookup), trials);
+    }
+
+    /**
+     * Simulate encounters between combatants already linked to their weapons
+     */
+    public SimulationResult simulate(List<ResolvedCombatant> sideA, List<ResolvedCombatant> sideB, int trials) {
+        if (sideA.isEmpty() || sideB.isEmpty()) {
+            throw new IllegalArgumentException("Both sides need at least one combatant");
+        }
+        if (trials <= 0) {
+            throw new IllegalArgumentException("Number of trials must be positive");
+        }
+
+        Encounter encounter = new Encounter(sideA, sideB);
+        int threshold = Math.max(MIN_TRIALS_PER_TASK, trials / MAX_TASKS);
+        RandomSource source;
+        synchronized (masterSource) {
+            source = masterSource.split();
+        }
+        Tally tally = pool.invoke(new SimulationTask(encounter, source, 0, trials, threshold));
+
+        return new SimulationResult(trials, tally.winsA, tally.winsB, tally.draws,
+            tally.totalRounds, tally.woundsRemainingA, tally.woundsRemainingB);
+    }
+
+    private static List<ResolvedCombatant> link(List<Enemy> side, Function<Enemy, Weapon> weaponLookup) {
+        List<ResolvedCombatant> linked = new ArrayList<>(side.size());
+        for (Enemy enemy : side) {
+            Weapon weapon = weaponLookup.apply(enemy);
+            if (weapon == null) {
+                throw new IllegalArgumentException("No weapon found for " + enemy.name());
+            }
+            linked.add(new ResolvedCombatant(enemy, weapon));
+        }
+        return linked;
+    }
+
+    /**
+     * Immutable description of the two sides, shared by all tasks.
+     * The characteristics used every attack are copied into parallel arrays, so
+     * the combat loop reads a few small int arrays instead of following each
+     * enemy to its stat block, whatever StatBlock implementation it uses.
+     */
+    private static final class Encounter {
+        final Enemy[] templates;
+        final Weapon[] weapons;
+        final int[] weaponSkill;
+        final int[] strength;
+        final int[] toughness;
+        final int[] agility;
+        final int[] attacks;
+        final int sizeA;
+        final int maxWoundsA;
+        final int maxWoundsB;
+
+        Encounter(List<ResolvedCombatant> sideA, List<ResolvedCombatant> sideB) {
+            sizeA = sideA.size();
+            templates = new Enemy[sideA.size() + sideB.size()];
+            weapons = new Weapon[templates.length];
+            weaponSkill = new int[templates.length];
+            strength = new int[templates.length];
+            toughness = new int[templates.length];
+            agility = new int[templates.length];
+            attacks = new int[templates.length];
+            int woundsA = 0;
+            int woundsB = 0;
+            for (int i = 0; i < templates.length; i++) {
+                ResolvedCombatant combatant = i < sizeA ? sideA.get(i) : sideB.get(i - sizeA);
+                Enemy enemy = combatant.enemy();
+                templates[i] = enemy;
+                weapons[i] = combatant.weapon();
+                StatBlock stats = enemy.stats();
+                weaponSkill[i] = stats.weaponSkill();
+                strength[i] = stats.strength();
+                toughness[i] = stats.toughness();
+                agility[i] = stats.agility();
+                attacks[i] = stats.attacks();
+                // Combatants start on the template's current wounds, which may exceed the stat line
+                int wounds = Math.max(stats.wounds(), enemy.currentWounds());
+                if (i < sizeA) {
+                    woundsA += wounds;
+                } else {
+                    woundsB += wounds;
+                }
+            }
+            maxWoundsA = woundsA;
+            maxWoundsB = woundsB;
+        }
+    }
+
+    /**
+     * Fork/join task splitting a range of trials in half until it is small enough.
+     * The random source is split along with the range, so every leaf gets an
+     * independent stream that depends only on the master seed and the split tree.
+     */
+    private final class SimulationTask extends RecursiveTask<Tally> {
+        private final Encounter encounter;
+        private final RandomSource source;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        SimulationTask(Encounter encounter, RandomSource source, int from, int to, int threshold) {
+            this.encounter = encounter;
+            this.source = source;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= threshold) {
+                return runTrials();
+            }
+            int mid = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(encounter, source.split(), from, mid, threshold);
+            SimulationTask right = new SimulationTask(encounter, source, mid, to, threshold);
+            left.fork();
+            Tally rightTally = right.compute();
+            return left.join().merge(rightTally);
+        }
+
+        private Tally runTrials() {
+            CombatResolver resolver = new CombatResolver(new DiceRoller(source));
+            Battle battle = new Battle(encounter, resolver, maxRounds);
+            Tally tally = new Tally(encounter.maxWoundsA, encounter.maxWoundsB);
+            for (int trial = from; trial < to; trial++) {
+                battle.fight(tally);
+            }
+            return tally;
+        }
+    }
+
+    /**
+     * Per-task workspace running one encounter at a time.
+     * Combatants occupy fixed slots in a CombatantStore, slot i holding template i,
+     * so a trial only resets wounds and allocates nothing.
+     */
+    private static final class Battle {
+        private final Encounter encounter;
+        private final CombatResolver resolver;
+        private final DiceRoller diceRoller;
+        private final int maxRounds;
+        private final CombatantStore combatants;
+        private final int[] order;
+        private final int[] initiative;
+
+        Battle(Encounter encounter, CombatResolver resolver, int maxRounds) {
+            this.encounter = encounter;
+            this.resolver = resolver;
+            this.diceRoller = resolver.getDiceRoller();
+            this.maxRounds = maxRounds;
+            this.combatants = new CombatantStore(encounter.templates.length);
+            for (Enemy template : encounter.templates) {
+                combatants.spawn(template);
+            }
+            this.order = new int[encounter.templates.length];
+            this.initiative = new int[encounter.templates.length];
+        }
+
+        void fight(Tally tally) {
+            int total = order.length;
+            int sizeA = encounter.sizeA;
+            for (int slot = 0; slot < total; slot++) {
+                combatants.restore(slot);
+            }
+            rollInitiative();
+
+            // Templates may already be defeated, so count who actually starts alive
+            int aliveA = countAlive(0, sizeA);
+            int aliveB = countAlive(sizeA, total);
+            int round = 0;
+            while (aliveA > 0 && aliveB > 0 && round < maxRounds) {
+                round++;
+                for (int turn = 0; turn < total && aliveA > 0 && aliveB > 0; turn++) {
+                    int attacker = order[turn];
+                    if (!combatants.isAlive(attacker)) {
+                        continue;
+                    }
+                    boolean onSideA = attacker < sizeA;
+                    int killed = takeTurn(attacker, onSideA, onSideA ? aliveB : aliveA);
+                    if (onSideA) {
+                        aliveB -= killed;
+                    } else {
+                        aliveA -= killed;
+                    }
+                }
+            }
+
+            tally.record(aliveA, aliveB, round, remainingWounds(0, sizeA), remainingWounds(sizeA, total));
+        }
+
+        /**
+         * Roll initiative for every combatant and order them highest first, keeping
+         * the side order for ties like InitiativeTracker does
+         */
+        private void rollInitiative() {
+            for (int i = 0; i < order.length; i++) {
+                int value = resolver.rollInitiative(encounter.agility[i]);
+                int j = i;
+                while (j > 0 && initiative[j - 1] < value) {
+                    initiative[j] = initiative[j - 1];
+                    order[j] = order[j - 1];
+                    j--;
+                }
+                initiative[j] = value;
+                order[j] = i;
+            }
+        }
+
+        /**
+         * Resolve all attacks of one combatant and return how many opponents were killed
+         */
+        private int takeTurn(int attacker, boolean onSideA, int aliveOpponents) {
+            Weapon weapon = encounter.weapons[attacker];
+            int weaponSkill = encounter.weaponSkill[attacker];
+            int strength = encounter.strength[attacker];
+            int attacks = encounter.attacks[attacker];
+            int killed = 0;
+            int target = -1;
+            for (int attack = 0; attack < attacks; attack++) {
+                if (aliveOpponents == 0) {
+                    break;
+                }
+                if (target < 0) {
+                    target = pickTarget(onSideA, aliveOpponents);
+                }
+                int damage = resolver.resolveAttackDamage(weaponSkill, strength, weapon, encounter.toughness[target]);
+                if (damage > 0 && combatants.applyDamage(target, damage) == 0) {
+                    aliveOpponents--;
+                    killed++;
+                    target = -1;
+                }
+            }
+            return killed;
+        }
+
+        /**
+         * Pick a random living opponent
+         */
+        private int pickTarget(boolean onSideA, int aliveOpponents) {
+            int skip = diceRoller.rollMultiple(1, aliveOpponents) - 1;
+            int from = onSideA ? encounter.sizeA : 0;
+            int to = onSideA ? order.length : encounter.sizeA;
+            for (int i = from; i < to; i++) {
+                if (combatants.isAlive(i) && skip-- == 0) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("No living opponent left");
+        }
+
+        private int countAlive(int from, int to) {
+            int alive = 0;
+            for (int i = from; i < to; i++) {
+                if (combatants.isAlive(i)) {
+                    alive++;
+                }
+            }
+            return alive;
+        }
+
+        private int remainingWounds(int from, int to) {
+            int wounds = 0;
+            for (int i = from; i < to; i++) {
+                wounds += combatants.getCurrentWounds(i);
+            }
+            return wounds;
+        }
+    }
+
+    /**
+     * Mutable accumulator owned by a single task
+     */
+    private static final class Tally {
+        long winsA;
+        long winsB;
+        long draws;
+        long totalRounds;
+        final long[] woundsRemainingA;
+        final long[] woundsRemainingB;
+
+        Tally(int maxWoundsA, int maxWoundsB) {
+            woundsRemainingA = new long[maxWoundsA + 1];
+            woundsRemainingB = new long[maxWoundsB + 1];
+        }
+
+        void record(int aliveA, int aliveB, int rounds, int woundsA, int woundsB) {
+            if (aliveB == 0) {
+                winsA++;
+            } else if (aliveA == 0) {
+                winsB++;
+            } else {
+                draws++;
+            }
+            totalRounds += rounds;
+            woundsRemainingA[woundsA]++;
+            woundsRemainingB[woundsB]++;
+        }
+
+        Tally merge(Tally other) {
+            winsA += other.winsA;
+            winsB += other.winsB;
+            draws += other.draws;
+            totalRounds += other.totalRounds;
+            for (int i = 0; i < woundsRemainingA.length; i++) {
+                woundsRemainingA[i] += other.woundsRemainingA[i];
+            }
+            for (int i = 0; i < woundsRemainingB.length; i++) {
+                woundsRemainingB[i] += other.woundsRemainingB[i];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Aggregated outcome of a simulation run.
+     * The wounds-remaining arrays are histograms indexed by the total wounds left on that side.
+     */
+    public record SimulationResult(
+        int trials,
+        long winsA,
+        long winsB,
+        long draws,
+        long totalRounds,
+        long[] woundsRemainingA,
+        long[] woundsRemainingB
+    ) {
+
+        public SimulationResult {
+            woundsRemainingA = woundsRemainingA.clone();
+            woundsRemainingB = woundsRemainingB.clone();
+        }
+
+        @Override
+        public long[] woundsRemainingA() {
+            return woundsRemainingA.clone();
+        }
+
+        @Override
+        public long[] woundsRemainingB() {
+            return woundsRemainingB.clone();
+        }
+
+        public double winRateA() {
+            return (double) winsA / trials;
+        }
+
+        public double winRateB() {
+            return (double) winsB / trials;
+        }
+
+        public double drawRate() {
+            return (double) draws / trials;
+        }
+
+        public double averageRounds() {
+            return (double) totalRounds / trials;
+        }
+
+        public double averageWoundsRemainingA() {
+            return average(woundsRemainingA);
+        }
+
+        public double averageWoundsRemainingB() {
+            return average(woundsRemainingB);
+        }
+
+        private double average(long[] histogram) {
+            long sum = 0;
+            for (int wounds = 0; wounds < histogram.length; wounds++) {
+                sum += wounds * histogram[wounds];
+            }
+            return (double) sum / trials;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("SimulationResult[trials=%d, winRateA=%.4f, winRateB=%.4f, drawRate=%.4f, "
+                    + "averageRounds=%.2f, woundsRemainingA=%s, woundsRemainingB=%s]",
+                trials, winRateA(), winRateB(), drawRate(), averageRounds(),
+                Arrays.toString(woundsRemainingA), Arrays.toString(woundsRemainingB));
+        }
+    }
+}
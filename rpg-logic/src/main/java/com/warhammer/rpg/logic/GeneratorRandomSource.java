@@ -0,0 +1,50 @@
+package com.warhammer.rpg.logic;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * RandomSource backed by a Java 17 RandomGenerator such as L64X128MixRandom or Xoshiro256PlusPlus.
+ * The generator must be splittable or jumpable.
+ */
+public final class GeneratorRandomSource implements RandomSource {
+
+    private final RandomGenerator generator;
+
+    public GeneratorRandomSource(RandomGenerator generator) {
+        if (!(generator instanceof RandomGenerator.SplittableGenerator)
+                && !(generator instanceof RandomGenerator.JumpableGenerator)) {
+            throw new IllegalArgumentException("Generator must be splittable or jumpable: "
+                + generator.getClass().getName());
+        }
+        this.generator = generator;
+    }
+
+    /**
+     * Create a seeded source for the named algorithm
+     */
+    public static GeneratorRandomSource of(String algorithm, long seed) {
+        return new GeneratorRandomSource(RandomGeneratorFactory.of(algorithm).create(seed));
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return generator.nextInt(bound);
+    }
+
+    @Override
+    public void nextInts(int[] dest, int offset, int length, int bound) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            dest[i] = generator.nextInt(bound);
+        }
+    }
+
+    @Override
+    public RandomSource split() {
+        if (generator instanceof RandomGenerator.SplittableGenerator splittable) {
+            return new GeneratorRandomSource(splittable.split());
+        }
+        // Jumpable generators hand out the current position and skip this source far ahead
+        return new GeneratorRandomSource(((RandomGenerator.JumpableGenerator) generator).copyAndJump());
+    }
+}
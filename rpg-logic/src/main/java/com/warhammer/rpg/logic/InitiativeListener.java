@@ -0,0 +1,42 @@
+package com.warhammer.rpg.logic;
+
+import com.warhammer.rpg.logic.InitiativeTracker.InitiativeEntry;
+
+import java.util.List;
+
+/**
+ * Receives fine-grained changes of an InitiativeTracker, so a view can update
+ * only the affected rows. Indexes are positions in initiative order: for an
+ * add the position after the change, for a remove the position before it.
+ * Every method does nothing by default.
+ */
+public interface InitiativeListener {
+
+    default void entryAdded(InitiativeEntry entry, int index) {
+    }
+
+    default void entryRemoved(InitiativeEntry entry, int index) {
+    }
+
+    /**
+     * Entry replaced by one with a new initiative, moving from one position to another
+     */
+    default void entryMoved(InitiativeEntry oldEntry, InitiativeEntry newEntry, int from, int to) {
+    }
+
+    default void woundsChanged(InitiativeEntry entry, int index, int currentWounds) {
+    }
+
+    /**
+     * Turn advanced, or a removal moved the turn back to the top of the
+     * order; also sent after a reset with a null entry
+     */
+    default void turnChanged(InitiativeEntry current, int round) {
+    }
+
+    /**
+     * Every entry was removed at once; the removed entries are in initiative order
+     */
+    default void cleared(List<InitiativeEntry> removed) {
+    }
+}
@@ -0,0 +1,209 @@
+package com.warhammer.rpg.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Order-statistic treap keeping initiative entries sorted highest initiative first,
+ * ties broken by insertion order. Insert, remove, select by position and rank are
+ * O(log n) expected. Priorities are derived from the insertion sequence, so the
+ * tree shape is deterministic.
+ */
+final class InitiativeOrder {
+
+    private Node root;
+    private long nextSequence;
+
+    /**
+     * Insert an entry after all entries with the same initiative
+     */
+    Node insert(InitiativeTracker.InitiativeEntry entry) {
+        Node node = new Node(entry, nextSequence++);
+        root = insert(root, node);
+        return node;
+    }
+
+    /**
+     * Remove a node previously returned by insert
+     */
+    void remove(Node node) {
+        root = remove(root, node);
+    }
+
+    /**
+     * Entry at the given position in initiative order
+     */
+    InitiativeTracker.InitiativeEntry get(int index) {
+        Node current = root;
+        while (current != null) {
+            int leftSize = size(current.left);
+            if (index < leftSize) {
+                current = current.left;
+            } else if (index == leftSize) {
+                return current.entry;
+            } else {
+                index -= leftSize + 1;
+                current = current.right;
+            }
+        }
+        throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+    }
+
+    /**
+     * Position of a node in initiative order
+     */
+    int indexOf(Node node) {
+        int index = 0;
+        Node current = root;
+        while (current != null) {
+            if (current == node) {
+                return index + size(current.left);
+            }
+            if (before(node, current)) {
+                current = current.left;
+            } else {
+                index += size(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return -1;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * All entries in initiative order
+     */
+    List<InitiativeTracker.InitiativeEntry> toList() {
+        List<InitiativeTracker.InitiativeEntry> result = new ArrayList<>(size());
+        List<Node> stack = new ArrayList<>();
+        Node current = root;
+        while (current != null || !stack.isEmpty()) {
+            while (current != null) {
+                stack.add(current);
+                current = current.left;
+            }
+            current = stack.remove(stack.size() - 1);
+            result.add(current.entry);
+            current = current.right;
+        }
+        return result;
+    }
+
+    private static Node insert(Node tree, Node node) {
+        if (tree == null) {
+            return node;
+        }
+        if (node.priority > tree.priority) {
+            Node[] parts = split(tree, node);
+            node.left = parts[0];
+            node.right = parts[1];
+            return node.update();
+        }
+        if (before(node, tree)) {
+            tree.left = insert(tree.left, node);
+        } else {
+            tree.right = insert(tree.right, node);
+        }
+        return tree.update();
+    }
+
+    private static Node remove(Node tree, Node node) {
+        if (tree == null) {
+            return null;
+        }
+        if (tree == node) {
+            return merge(tree.left, tree.right);
+        }
+        if (before(node, tree)) {
+            tree.left = remove(tree.left, node);
+        } else {
+            tree.right = remove(tree.right, node);
+        }
+        return tree.update();
+    }
+
+    /**
+     * Split into nodes ordered before the key and the rest
+     */
+    private static Node[] split(Node tree, Node key) {
+        if (tree == null) {
+            return new Node[2];
+        }
+        if (before(tree, key)) {
+            Node[] parts = split(tree.right, key);
+            tree.right = parts[0];
+            parts[0] = tree.update();
+            return parts;
+        }
+        Node[] parts = split(tree.left, key);
+        tree.left = parts[1];
+        parts[1] = tree.update();
+        return parts;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.update();
+        }
+        right.left = merge(left, right.left);
+        return right.update();
+    }
+
+    private static boolean before(Node a, Node b) {
+        int initiativeA = a.entry.initiative();
+        int initiativeB = b.entry.initiative();
+        return initiativeA > initiativeB || (initiativeA == initiativeB && a.sequence < b.sequence);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Tree node; doubles as a handle for removal
+     */
+    static final class Node {
+        final InitiativeTracker.InitiativeEntry entry;
+        final long sequence;
+        final int priority;
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(InitiativeTracker.InitiativeEntry entry, long sequence) {
+            this.entry = entry;
+            this.sequence = sequence;
+            this.priority = mix(sequence);
+        }
+
+        Node update() {
+            size = 1 + InitiativeOrder.size(left) + InitiativeOrder.size(right);
+            return this;
+        }
+
+        private static int mix(long value) {
+            long z = value * 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return (int) (z ^ (z >>> 31));
+        }
+    }
+}
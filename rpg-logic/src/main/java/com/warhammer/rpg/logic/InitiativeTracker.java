@@ -1,45 +1,70 @@
 package com.warhammer.rpg.logic;
 
+import com.warhammer.rpg.model.AbilitySet;
 import com.warhammer.rpg.model.Enemy;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Tracks initiative order for combat encounters
+ * Tracks initiative order for combat encounters.
+ * Entries are kept in an order-statistic tree plus an id index, so adding,
+ * removing and looking up the current turn are O(log n).
+ * Live wounds and conditions of each entry are held in a CombatantStore.
+ * Registered InitiativeListeners hear about every add, remove, move, wound
+ * change and turn made through the tracker; changes made directly on the
+ * CombatantStore are not reported.
  */
 public class InitiativeTracker {
     
-    private final List<InitiativeEntry> entries;
+    private final InitiativeOrder entries;
+    private final Map<String, List<InitiativeOrder.Node>> entriesById;
+    private final CombatantStore combatants;
+    private final List<InitiativeListener> listeners;
     private int currentTurn;
     
     public InitiativeTracker() {
-        this.entries = new ArrayList<>();
+        this.entries = new InitiativeOrder();
+        this.entriesById = new HashMap<>();
+        this.combatants = new CombatantStore();
+        this.listeners = new ArrayList<>();
         this.currentTurn = 0;
     }
     
-    /**
-     * Add an enemy to initiative with rolled initiative value
-     */
-    public void addEntry(Enemy enemy, int initiative) {
-        entries.add(new InitiativeEntry(enemy, initiative));
-        sortByInitiative();
+    public void addListener(InitiativeListener listener) {
+        listeners.add(listener);
+    }
+    
+    public void removeListener(InitiativeListener listener) {
+        listeners.remove(listener);
     }
     
     /**
-     * Add enemy and automatically roll initiative
+     * Add an enemy to initiative with rolled initiative value.
+     * Entries with equal initiative keep the order in which they were added.
      */
-    public void addEntry(Enemy enemy, CombatResolver combatResolver) {
-        int initiative = combatResolver.rollInitiative(enemy);
-        addEntry(enemy, initiative);
+    public InitiativeEntry addEntry(Enemy enemy, int initiative) {
+        int slot = combatants.spawn(enemy);
+        InitiativeOrder.Node node = entries.insert(new InitiativeEntry(enemy, initiative, slot, combatants.generation(slot)));
+        entriesById.computeIfAbsent(enemy.id(), id -> new ArrayList<>(1)).add(node);
+        if (!listeners.isEmpty()) {
+            int index = entries.indexOf(node);
+            for (InitiativeListener listener : listeners) {
+                listener.entryAdded(node.entry, index);
+            }
+        }
+        return node.entry;
     }
     
     /**
-     * Sort entries by initiative (highest first)
+     * Add enemy and automatically roll initiative
      */
-    private void sortByInitiative() {
-        entries.sort(Comparator.comparingInt(InitiativeEntry::initiative).reversed());
+    public InitiativeEntry addEntry(Enemy enemy, CombatResolver combatResolver) {
+        int initiative = combatResolver.rollInitiative(enemy);
+        return addEntry(enemy, initiative);
     }
     
     /**
@@ -57,32 +82,157 @@ public class InitiativeTracker {
      */
     public void nextTurn() {
         currentTurn++;
+        if (!listeners.isEmpty()) {
+            InitiativeEntry current = getCurrentEntry();
+            int round = getCurrentRound();
+            for (InitiativeListener listener : listeners) {
+                listener.turnChanged(current, round);
+            }
+        }
     }
     
     /**
      * Get all entries in initiative order
      */
     public List<InitiativeEntry> getAllEntries() {
-        return List.copyOf(entries);
+        return Collections.unmodifiableList(entries.toList());
+    }
+    
+    /**
+     * Entry at the given position in initiative order, O(log n)
+     */
+    public InitiativeEntry getEntry(int index) {
+        return entries.get(index);
+    }
+    
+    /**
+     * Position of an entry in initiative order, or -1 if it is not tracked
+     */
+    public int indexOf(InitiativeEntry entry) {
+        InitiativeOrder.Node node = findNode(entry);
+        return node == null ? -1 : entries.indexOf(node);
+    }
+    
+    public int size() {
+        return entries.size();
     }
     
     /**
      * Remove entry (e.g., when enemy dies)
      */
     public void removeEntry(String enemyId) {
-        entries.removeIf(entry -> entry.enemy().id().equals(enemyId));
-        // Adjust current turn if necessary
-        if (currentTurn >= entries.size() && !entries.isEmpty()) {
-            currentTurn = 0;
+        List<InitiativeOrder.Node> removed = entriesById.remove(enemyId);
+        if (removed == null) {
+            return;
+        }
+        int turnBefore = currentTurn;
+        for (InitiativeOrder.Node node : removed) {
+            int index = listeners.isEmpty() ? -1 : entries.indexOf(node);
+            entries.remove(node);
+            combatants.release(node.entry.slot());
+            // Adjust current turn before listeners look at the current entry
+            if (currentTurn >= entries.size() && !entries.isEmpty()) {
+                currentTurn = 0;
+            }
+            for (InitiativeListener listener : listeners) {
+                listener.entryRemoved(node.entry, index);
+            }
+        }
+        if (currentTurn != turnBefore && !listeners.isEmpty()) {
+            InitiativeEntry current = getCurrentEntry();
+            int round = getCurrentRound();
+            for (InitiativeListener listener : listeners) {
+                listener.turnChanged(current, round);
+            }
         }
     }
     
+    /**
+     * Apply damage to an entry and return its remaining wounds
+     */
+    public int applyDamage(InitiativeEntry entry, int damage) {
+        int slot = slotOf(entry);
+        int before = combatants.getCurrentWounds(slot);
+        int remaining = combatants.applyDamage(slot, damage);
+        fireWoundsChanged(entry, before, remaining);
+        return remaining;
+    }
+    
+    /**
+     * Heal an entry and return its new wounds
+     */
+    public int heal(InitiativeEntry entry, int healing) {
+        int slot = slotOf(entry);
+        int before = combatants.getCurrentWounds(slot);
+        int wounds = combatants.heal(slot, healing);
+        fireWoundsChanged(entry, before, wounds);
+        return wounds;
+    }
+    
+    /**
+     * Give an entry a new initiative, e.g. when it delays its turn, and return
+     * the replacing entry. It keeps its live state and goes after the entries
+     * that already have the same initiative.
+     */
+    public InitiativeEntry changeInitiative(InitiativeEntry entry, int initiative) {
+        InitiativeOrder.Node node = findNode(entry);
+        if (node == null) {
+            throw new IllegalArgumentException("Entry is not in this tracker: " + entry);
+        }
+        int from = entries.indexOf(node);
+        entries.remove(node);
+        InitiativeOrder.Node moved = entries.insert(new InitiativeEntry(entry.enemy(), initiative, entry.slot(), entry.generation()));
+        List<InitiativeOrder.Node> nodes = entriesById.get(entry.enemy().id());
+        nodes.set(nodes.indexOf(node), moved);
+        if (!listeners.isEmpty()) {
+            int to = entries.indexOf(moved);
+            for (InitiativeListener listener : listeners) {
+                listener.entryMoved(node.entry, moved.entry, from, to);
+            }
+        }
+        return moved.entry;
+    }
+    
+    /**
+     * Current wounds of an entry
+     */
+    public int getCurrentWounds(InitiativeEntry entry) {
+        return combatants.getCurrentWounds(slotOf(entry));
+    }
+    
+    /**
+     * Live state of all entries, indexed by InitiativeEntry.slot()
+     */
+    public CombatantStore getCombatants() {
+        return combatants;
+    }
+    
+    /**
+     * Abilities held by anyone in the encounter, one mask OR per entry
+     */
+    public AbilitySet getEncounterAbilities() {
+        List<Enemy> enemies = new ArrayList<>(entries.size());
+        for (List<InitiativeOrder.Node> nodes : entriesById.values()) {
+            for (InitiativeOrder.Node node : nodes) {
+                enemies.add(node.entry.enemy());
+            }
+        }
+        return AbilitySet.union(enemies);
+    }
+    
     /**
      * Reset initiative tracker
      */
     public void reset() {
+        List<InitiativeEntry> removed = listeners.isEmpty() ? List.of() : entries.toList();
         entries.clear();
+        entriesById.clear();
+        combatants.clear();
         currentTurn = 0;
+        for (InitiativeListener listener : listeners) {
+            listener.cleared(removed);
+            listener.turnChanged(null, 0);
+        }
     }
     
     /**
@@ -103,7 +253,39 @@ public class InitiativeTracker {
     }
     
     /**
-     * Initiative entry combining enemy and their initiative roll
+     * Slot of the entry, rejecting entries whose slot was released and reused
+     */
+    private int slotOf(InitiativeEntry entry) {
+        combatants.checkGeneration(entry.slot(), entry.generation());
+        return entry.slot();
+    }
+    
+    private InitiativeOrder.Node findNode(InitiativeEntry entry) {
+        List<InitiativeOrder.Node> nodes = entriesById.get(entry.enemy().id());
+        if (nodes != null) {
+            for (InitiativeOrder.Node node : nodes) {
+                if (node.entry.equals(entry)) {
+                    return node;
+                }
+            }
+        }
+        return null;
+    }
+    
+    private void fireWoundsChanged(InitiativeEntry entry, int before, int after) {
+        if (before == after || listeners.isEmpty()) {
+            return;
+        }
+        int index = indexOf(entry);
+        for (InitiativeListener listener : listeners) {
+            listener.woundsChanged(entry, index, after);
+        }
+    }
+    
+    /**
+     * Initiative entry combining the enemy template, their initiative roll
+     * and the combatant slot holding their live state. The generation tells
+     * a removed entry apart from a later one that reuses its slot.
      */
-    public record InitiativeEntry(Enemy enemy, int initiative) {}
+    public record InitiativeEntry(Enemy enemy, int initiative, int slot, int generation) {}
 }
\ No newline at end of file
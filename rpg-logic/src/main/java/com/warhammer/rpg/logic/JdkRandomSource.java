@@ -0,0 +1,80 @@
+package com.warhammer.rpg.logic;
+
+/**
+ * RandomSource producing exactly the same sequence as java.util.Random.
+ * Kept so that existing seeds reproduce the same rolls as before.
+ * The 48-bit LCG documented by java.util.Random is implemented directly on a
+ * plain field, which avoids the atomic update Random performs on every call.
+ */
+public final class JdkRandomSource implements RandomSource {
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private long seed;
+
+    public JdkRandomSource(long seed) {
+        this.seed = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        if ((bound & -bound) == bound) {
+            return (int) ((bound * (long) next(31)) >> 31);
+        }
+        int bits;
+        int val;
+        do {
+            bits = next(31);
+            val = bits % bound;
+        } while (bits - val + (bound - 1) < 0);
+        return val;
+    }
+
+    @Override
+    public void nextInts(int[] dest, int offset, int length, int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        if ((bound & -bound) == bound) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                dest[i] = nextInt(bound);
+            }
+            return;
+        }
+        // Same rejection loop as nextInt, with the seed kept in a local and the
+        // modulo computed through a reciprocal plus a single correction step
+        long s = seed;
+        double reciprocal = 1.0 / bound;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            int bits;
+            int val;
+            do {
+                s = (s * MULTIPLIER + ADDEND) & MASK;
+                bits = (int) (s >>> 17);
+                val = bits - (int) (bits * reciprocal) * bound;
+                if (val < 0) {
+                    val += bound;
+                } else if (val >= bound) {
+                    val -= bound;
+                }
+            } while (bits - val + (bound - 1) < 0);
+            dest[i] = val;
+        }
+        seed = s;
+    }
+
+    @Override
+    public RandomSource split() {
+        return new JdkRandomSource(((long) next(32) << 32) + next(32));
+    }
+
+    private int next(int bits) {
+        seed = (seed * MULTIPLIER + ADDEND) & MASK;
+        return (int) (seed >>> (48 - bits));
+    }
+}
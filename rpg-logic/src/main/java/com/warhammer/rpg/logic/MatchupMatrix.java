@@ -0,0 +1,409 @@
+package com.warhammer.rpg.logic;
+
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.Weapon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed hit chance and expected damage per attack for every
+ * attacker x defender x weapon combination of a bestiary.
+ * Expected damage on a hit is linear in the defender's toughness test chance,
+ * so only the attacker x weapon damage means with and without the toughness
+ * reduction are stored, plus one hit chance and one reduction chance per enemy.
+ * Cells are combined from these on lookup. The matrix is immutable once built.
+ */
+public final class MatchupMatrix {
+
+    private static final System.Logger LOG = System.getLogger(MatchupMatrix.class.getName());
+    private static final int MAGIC = 0x57484D4D; // "WHMM"
+    private static final int FORMAT_VERSION = 2;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final String[] enemyIds;
+    private final String[] weaponIds;
+    private final long[] enemyFingerprints;
+    private final long[] weaponFingerprints;
+    private final float[] hitChance;
+    private final float[] reductionChance;
+    private final float[] unreducedMean;
+    private final float[] reducedMean;
+    private final Map<String, Integer> enemyIndex;
+    private final Map<String, Integer> weaponIndex;
+    private final long dataHash;
+    private final long recomputedMeans;
+
+    private MatchupMatrix(String[] enemyIds, String[] weaponIds, long[] enemyFingerprints,
+                          long[] weaponFingerprints, float[] hitChance, float[] reductionChance,
+                          float[] unreducedMean, float[] reducedMean, long recomputedMeans) {
+        this.enemyIds = enemyIds;
+        this.weaponIds = weaponIds;
+        this.enemyFingerprints = enemyFingerprints;
+        this.weaponFingerprints = weaponFingerprints;
+        this.hitChance = hitChance;
+        this.reductionChance = reductionChance;
+        this.unreducedMean = unreducedMean;
+        this.reducedMean = reducedMean;
+        this.enemyIndex = indexOf(enemyIds);
+        this.weaponIndex = indexOf(weaponIds);
+        this.dataHash = combine(enemyFingerprints, weaponFingerprints);
+        this.recomputedMeans = recomputedMeans;
+    }
+
+    /**
+     * Build the full matrix from scratch
+     */
+    public static MatchupMatrix build(List<Enemy> enemies, List<Weapon> weapons) {
+        return update(null, enemies, weapons);
+    }
+
+    /**
+     * Build a matrix for the given data, copying everything derived from enemies
+     * and weapons that are unchanged since the previous matrix. Only the damage
+     * means of added or modified attackers and weapons are recomputed.
+     */
+    public static MatchupMatrix update(MatchupMatrix previous, List<Enemy> enemies, List<Weapon> weapons) {
+        int enemyCount = enemies.size();
+        int weaponCount = weapons.size();
+        long means = (long) enemyCount * weaponCount;
+        if (means > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Matchup matrix too large: " + means + " damage means");
+        }
+
+        String[] enemyIds = new String[enemyCount];
+        long[] enemyFingerprints = new long[enemyCount];
+        for (int i = 0; i < enemyCount; i++) {
+            enemyIds[i] = enemies.get(i).id();
+            enemyFingerprints[i] = fingerprint(enemies.get(i));
+        }
+        String[] weaponIds = new String[weaponCount];
+        long[] weaponFingerprints = new long[weaponCount];
+        for (int i = 0; i < weaponCount; i++) {
+            weaponIds[i] = weapons.get(i).id();
+            weaponFingerprints[i] = fingerprint(weapons.get(i));
+        }
+
+        int[] oldEnemy = previous == null ? null : previous.match(enemyIds, enemyFingerprints, true);
+        int[] oldWeapon = previous == null ? null : previous.match(weaponIds, weaponFingerprints, false);
+
+        ProbabilityCalculator calculator = new ProbabilityCalculator();
+        float[] hitChance = new float[enemyCount];
+        float[] reductionChance = new float[enemyCount];
+        for (int i = 0; i < enemyCount; i++) {
+            int old = oldEnemy == null ? -1 : oldEnemy[i];
+            if (old >= 0) {
+                hitChance[i] = previous.hitChance[old];
+                reductionChance[i] = previous.reductionChance[old];
+            } else {
+                Enemy enemy = enemies.get(i);
+                hitChance[i] = (float) calculator.hitChance(enemy.stats().weaponSkill());
+                reductionChance[i] = (float) calculator.toughnessReductionChance(enemy.stats().toughness());
+            }
+        }
+
+        float[] unreducedMean = new float[(int) means];
+        float[] reducedMean = new float[(int) means];
+        LongAdder recomputed = new LongAdder();
+        IntStream.range(0, enemyCount).parallel().forEach(attacker -> {
+            int strength = enemies.get(attacker).stats().strength();
+            int oldAttacker = oldEnemy == null ? -1 : oldEnemy[attacker];
+            int base = attacker * weaponCount;
+            int oldBase = oldAttacker < 0 ? -1 : oldAttacker * previous.weaponIds.length;
+            long count = 0;
+            for (int w = 0; w < weaponCount; w++) {
+                int oldW = oldBase < 0 ? -1 : oldWeapon[w];
+                if (oldW >= 0) {
+                    unreducedMean[base + w] = previous.unreducedMean[oldBase + oldW];
+                    reducedMean[base + w] = previous.reducedMean[oldBase + oldW];
+                } else {
+                    int damage = weapons.get(w).damage();
+                    unreducedMean[base + w] = (float) calculator.damageOnHit(strength, damage, 0).mean();
+                    reducedMean[base + w] = (float) calculator.damageOnHit(strength, damage, 100).mean();
+                    count++;
+                }
+            }
+            recomputed.add(count);
+        });
+
+        return new MatchupMatrix(enemyIds, weaponIds, enemyFingerprints, weaponFingerprints,
+            hitChance, reductionChance, unreducedMean, reducedMean, recomputed.sum());
+    }
+
+    /**
+     * Load the matrix cached at the given path and bring it up to date with the data,
+     * recomputing only what changed. The cache file is rewritten whenever the data hash
+     * differs; failing to write it is logged and does not fail the call.
+     */
+    public static MatchupMatrix loadOrBuild(Path cacheFile, List<Enemy> enemies, List<Weapon> weapons) {
+        MatchupMatrix previous = null;
+        if (Files.isRegularFile(cacheFile)) {
+            try {
+                previous = load(cacheFile);
+            } catch (IOException | RuntimeException e) {
+                // Corrupt or outdated cache, rebuild from scratch
+                previous = null;
+            }
+        }
+
+        MatchupMatrix matrix = update(previous, enemies, weapons);
+        if (previous == null || previous.dataHash != matrix.dataHash) {
+            try {
+                matrix.save(cacheFile);
+            } catch (IOException e) {
+                LOG.log(System.Logger.Level.WARNING, "Failed to write matchup cache " + cacheFile, e);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Read a matrix previously written with save()
+     */
+    public static MatchupMatrix load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Not a matchup cache: " + file);
+            }
+            long storedHash = in.readLong();
+            int enemyCount = in.readInt();
+            int weaponCount = in.readInt();
+            int means = checkCounts(file, enemyCount, weaponCount);
+
+            String[] enemyIds = new String[enemyCount];
+            long[] enemyFingerprints = new long[enemyCount];
+            for (int i = 0; i < enemyCount; i++) {
+                enemyIds[i] = in.readUTF();
+                enemyFingerprints[i] = in.readLong();
+            }
+            String[] weaponIds = new String[weaponCount];
+            long[] weaponFingerprints = new long[weaponCount];
+            for (int i = 0; i < weaponCount; i++) {
+                weaponIds[i] = in.readUTF();
+                weaponFingerprints[i] = in.readLong();
+            }
+            float[] hitChance = readFloats(in, enemyCount);
+            float[] reductionChance = readFloats(in, enemyCount);
+            float[] unreducedMean = readFloats(in, means);
+            float[] reducedMean = readFloats(in, means);
+
+            MatchupMatrix matrix = new MatchupMatrix(enemyIds, weaponIds, enemyFingerprints,
+                weaponFingerprints, hitChance, reductionChance, unreducedMean, reducedMean, 0);
+            if (matrix.dataHash != storedHash) {
+                throw new IOException("Matchup cache checksum mismatch: " + file);
+            }
+            return matrix;
+        }
+    }
+
+    /**
+     * Reject counts from a corrupt header before allocating for them: the file
+     * must be at least as long as the smallest content with these counts.
+     * Returns the number of attacker x weapon damage means.
+     */
+    private static int checkCounts(Path file, int enemyCount, int weaponCount) throws IOException {
+        if (enemyCount < 0 || weaponCount < 0) {
+            throw new IOException("Negative counts in matchup cache: " + file);
+        }
+        long means = (long) enemyCount * weaponCount;
+        if (means > Integer.MAX_VALUE - 8) {
+            throw new IOException("Matchup cache too large: " + file);
+        }
+        // Header, ids of at least their length prefix with fingerprints, per-enemy chances and means
+        long minimumSize = 24 + 10L * (enemyCount + weaponCount) + 8L * enemyCount + 8L * means;
+        if (Files.size(file) < minimumSize) {
+            throw new IOException("Matchup cache truncated: " + file);
+        }
+        return (int) means;
+    }
+
+    private static float[] readFloats(DataInputStream in, int count) throws IOException {
+        float[] values = new float[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = in.readFloat();
+        }
+        return values;
+    }
+
+    /**
+     * Write the matrix to disk, replacing the file atomically where supported
+     */
+    public void save(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(dataHash);
+                out.writeInt(enemyIds.length);
+                out.writeInt(weaponIds.length);
+                for (int i = 0; i < enemyIds.length; i++) {
+                    out.writeUTF(enemyIds[i]);
+                    out.writeLong(enemyFingerprints[i]);
+                }
+                for (int i = 0; i < weaponIds.length; i++) {
+                    out.writeUTF(weaponIds[i]);
+                    out.writeLong(weaponFingerprints[i]);
+                }
+                for (float[] values : new float[][] {hitChance, reductionChance, unreducedMean, reducedMean}) {
+                    for (float value : values) {
+                        out.writeFloat(value);
+                    }
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Chance that the attacker hits with one attack.
+     * Only the attacker's Weapon Skill matters under the current rules.
+     */
+    public float hitChance(int attacker) {
+        return hitChance[attacker];
+    }
+
+    /**
+     * Expected damage of one attack, misses included
+     */
+    public float expectedDamage(int attacker, int defender, int weapon) {
+        int mean = attacker * weaponIds.length + weapon;
+        double unreduced = unreducedMean[mean];
+        double onHit = unreduced + reductionChance[defender] * (reducedMean[mean] - unreduced);
+        return (float) (hitChance[attacker] * onHit);
+    }
+
+    /**
+     * Expected damage of one attack looked up by ids, or NaN if any id is unknown
+     */
+    public float expectedDamage(String attackerId, String defenderId, String weaponId) {
+        int attacker = enemyIndex(attackerId);
+        int defender = enemyIndex(defenderId);
+        int weapon = weaponIndex(weaponId);
+        if (attacker < 0 || defender < 0 || weapon < 0) {
+            return Float.NaN;
+        }
+        return expectedDamage(attacker, defender, weapon);
+    }
+
+    /**
+     * Row/column index of an enemy, or -1 if it is not in the matrix
+     */
+    public int enemyIndex(String id) {
+        return enemyIndex.getOrDefault(id, -1);
+    }
+
+    /**
+     * Weapon index of a weapon, or -1 if it is not in the matrix
+     */
+    public int weaponIndex(String id) {
+        return weaponIndex.getOrDefault(id, -1);
+    }
+
+    public int getEnemyCount() {
+        return enemyIds.length;
+    }
+
+    public int getWeaponCount() {
+        return weaponIds.length;
+    }
+
+    /**
+     * Hash over all data that influences the cells, used as the cache key
+     */
+    public long dataHash() {
+        return dataHash;
+    }
+
+    /**
+     * Number of attacker x weapon damage means that were computed rather than
+     * copied when this matrix was built
+     */
+    public long recomputedMeans() {
+        return recomputedMeans;
+    }
+
+    /**
+     * For each id, the index of the same unchanged entry in this matrix, or -1
+     */
+    private int[] match(String[] ids, long[] fingerprints, boolean enemies) {
+        Map<String, Integer> index = enemies ? enemyIndex : weaponIndex;
+        long[] oldFingerprints = enemies ? enemyFingerprints : weaponFingerprints;
+        int[] result = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            Integer old = index.get(ids[i]);
+            result[i] = old != null && oldFingerprints[old] == fingerprints[i] ? old : -1;
+        }
+        return result;
+    }
+
+    private static Map<String, Integer> indexOf(String[] ids) {
+        Map<String, Integer> index = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            index.putIfAbsent(ids[i], i);
+        }
+        return index;
+    }
+
+    private static long fingerprint(Enemy enemy) {
+        long hash = hash(FNV_OFFSET, enemy.id());
+        hash = hash(hash, enemy.stats().weaponSkill());
+        hash = hash(hash, enemy.stats().strength());
+        return hash(hash, enemy.stats().toughness());
+    }
+
+    private static long fingerprint(Weapon weapon) {
+        return hash(hash(FNV_OFFSET, weapon.id()), weapon.damage());
+    }
+
+    private static long combine(long[] enemyFingerprints, long[] weaponFingerprints) {
+        long hash = hash(FNV_OFFSET, FORMAT_VERSION);
+        for (long fingerprint : enemyFingerprints) {
+            hash = hash(hash, fingerprint);
+        }
+        for (long fingerprint : weaponFingerprints) {
+            hash = hash(hash, fingerprint);
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash(hash, value.length());
+    }
+
+    private static long hash(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash = (hash ^ (value & 0xFF)) * FNV_PRIME;
+            value >>>= 8;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,293 @@
+package com.warhammer.rpg.logic;
+
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.Weapon;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Exact outcome distributions for the dice rolls made by DiceRoller and CombatResolver.
+ * Results are memoized per parameter tuple, so repeated questions are answered from cache.
+ * Instances are thread-safe.
+ */
+public class ProbabilityCalculator {
+
+    private static final int D100 = 100;
+    private static final int D10 = 10;
+
+    private final Map<DiceKey, Distribution> diceCache = new ConcurrentHashMap<>();
+    private final Map<DamageKey, Distribution> damageCache = new ConcurrentHashMap<>();
+    private final Map<AttackKey, Distribution> attackCache = new ConcurrentHashMap<>();
+    private final Map<Integer, TestOdds> testCache = new ConcurrentHashMap<>();
+
+    /**
+     * Distribution of rollMultiple(numDice, sides), computed by repeated squaring
+     * of the single die, so O(log numDice) convolutions. Only the requested
+     * combination is cached.
+     */
+    public Distribution diceSum(int numDice, int sides) {
+        if (numDice < 0 || sides <= 0) {
+            throw new IllegalArgumentException("Need a non-negative number of dice with at least one side");
+        }
+        return diceCache.computeIfAbsent(new DiceKey(numDice, sides), key -> {
+            double[] single = new double[sides];
+            Arrays.fill(single, 1.0 / sides);
+            Distribution result = new Distribution(0, new double[] {1.0});
+            Distribution power = new Distribution(1, single);
+            for (int remaining = numDice; remaining > 0; remaining >>>= 1) {
+                if ((remaining & 1) != 0) {
+                    result = result.convolve(power);
+                }
+                if (remaining > 1) {
+                    power = power.convolve(power);
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Chance that a d100 roll is at most the target, as used by every percentile test
+     */
+    public double successChance(int target) {
+        return Math.max(0, Math.min(D100, target)) / (double) D100;
+    }
+
+    /**
+     * Chance that resolveAttack hits with the given Weapon Skill
+     */
+    public double hitChance(int weaponSkill) {
+        return successChance(weaponSkill);
+    }
+
+    /**
+     * Chance that the defender's toughness test in resolveAttack passes and reduces damage
+     */
+    public double toughnessReductionChance(int toughness) {
+        return successChance(toughness);
+    }
+
+    /**
+     * Distribution of the damage resolveAttack deals once it has hit
+     */
+    public Distribution damageOnHit(int strength, int weaponDamage, int toughness) {
+        return damageCache.computeIfAbsent(new DamageKey(strength, weaponDamage, toughness), key -> {
+            double reduced = toughnessReductionChance(toughness);
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            int[] unreduced = new int[D10];
+            int[] reducedDamage = new int[D10];
+            for (int roll = 1; roll <= D10; roll++) {
+                int total = strength + weaponDamage + (roll / 2);
+                unreduced[roll - 1] = total;
+                reducedDamage[roll - 1] = Math.max(1, total - 1);
+                min = Math.min(min, Math.min(total, reducedDamage[roll - 1]));
+                max = Math.max(max, Math.max(total, reducedDamage[roll - 1]));
+            }
+
+            double[] probabilities = new double[max - min + 1];
+            for (int i = 0; i < D10; i++) {
+                probabilities[unreduced[i] - min] += (1 - reduced) / D10;
+                probabilities[reducedDamage[i] - min] += reduced / D10;
+            }
+            return new Distribution(min, probabilities).trim();
+        });
+    }
+
+    /**
+     * Distribution of the damage of a single resolveAttack call, with misses counted as zero damage
+     */
+    public Distribution attackDamage(int weaponSkill, int strength, int weaponDamage, int toughness) {
+        int clampedSkill = Math.max(0, Math.min(D100, weaponSkill));
+        return attackCache.computeIfAbsent(new AttackKey(clampedSkill, strength, weaponDamage, toughness),
+            key -> damageOnHit(strength, weaponDamage, toughness).withMiss(hitChance(clampedSkill)));
+    }
+
+    /**
+     * Odds for one attack between two enemies
+     */
+    public AttackOdds attackOdds(Enemy attacker, Enemy defender, Weapon weapon) {
+        int toughness = defender.stats().toughness();
+        Distribution damage = attackDamage(attacker.stats().weaponSkill(),
+            attacker.stats().strength(), weapon.damage(), toughness);
+        return new AttackOdds(hitChance(attacker.stats().weaponSkill()),
+            toughnessReductionChance(toughness), damage);
+    }
+
+    /**
+     * Odds for testCharacteristic, including the degree distributions
+     */
+    public TestOdds characteristicTest(int characteristic, int modifier) {
+        return testCache.computeIfAbsent(characteristic + modifier, target -> {
+            int maxSuccess = -1;
+            int maxFailure = -1;
+            for (int roll = 1; roll <= D100; roll++) {
+                int degrees = Math.abs(roll - target) / 10;
+                if (roll <= target) {
+                    maxSuccess = Math.max(maxSuccess, degrees);
+                } else {
+                    maxFailure = Math.max(maxFailure, degrees);
+                }
+            }
+
+            double[] successDegrees = new double[Math.max(0, maxSuccess) + 1];
+            double[] failureDegrees = new double[Math.max(0, maxFailure) + 1];
+            for (int roll = 1; roll <= D100; roll++) {
+                int degrees = Math.abs(roll - target) / 10;
+                if (roll <= target) {
+                    successDegrees[degrees] += 1.0 / D100;
+                } else {
+                    failureDegrees[degrees] += 1.0 / D100;
+                }
+            }
+            return new TestOdds(successChance(target),
+                new Distribution(0, successDegrees), new Distribution(0, failureDegrees));
+        });
+    }
+
+    /**
+     * Number of cached distributions, mainly for diagnostics
+     */
+    public int cacheSize() {
+        return diceCache.size() + damageCache.size() + attackCache.size() + testCache.size();
+    }
+
+    private record DiceKey(int numDice, int sides) {}
+
+    private record DamageKey(int strength, int weaponDamage, int toughness) {}
+
+    private record AttackKey(int weaponSkill, int strength, int weaponDamage, int toughness) {}
+
+    /**
+     * Discrete distribution over the integers min .. min + probabilities.length - 1
+     */
+    public record Distribution(int min, double[] probabilities) {
+
+        public Distribution {
+            probabilities = probabilities.clone();
+        }
+
+        @Override
+        public double[] probabilities() {
+            return probabilities.clone();
+        }
+
+        public int max() {
+            return min + probabilities.length - 1;
+        }
+
+        /**
+         * Probability of exactly this value
+         */
+        public double probability(int value) {
+            int index = value - min;
+            return index < 0 || index >= probabilities.length ? 0 : probabilities[index];
+        }
+
+        /**
+         * Probability of a value at most the given one
+         */
+        public double atMost(int value) {
+            double total = 0;
+            for (int i = 0; i < probabilities.length && min + i <= value; i++) {
+                total += probabilities[i];
+            }
+            return total;
+        }
+
+        /**
+         * Probability of a value at least the given one
+         */
+        public double atLeast(int value) {
+            return 1 - atMost(value - 1);
+        }
+
+        public double mean() {
+            double total = 0;
+            for (int i = 0; i < probabilities.length; i++) {
+                total += (min + i) * probabilities[i];
+            }
+            return total;
+        }
+
+        /**
+         * Distribution of the sum of independent values from this and the other distribution
+         */
+        Distribution convolve(Distribution other) {
+            double[] result = new double[probabilities.length + other.probabilities.length - 1];
+            for (int i = 0; i < probabilities.length; i++) {
+                for (int j = 0; j < other.probabilities.length; j++) {
+                    result[i + j] += probabilities[i] * other.probabilities[j];
+                }
+            }
+            return new Distribution(min + other.min, result);
+        }
+
+        /**
+         * Mix in a zero outcome for the case that the event behind this distribution does not happen
+         */
+        Distribution withMiss(double chance) {
+            int newMin = Math.min(0, min);
+            int newMax = Math.max(0, max());
+            double[] result = new double[newMax - newMin + 1];
+            for (int i = 0; i < probabilities.length; i++) {
+                result[min + i - newMin] += probabilities[i] * chance;
+            }
+            result[-newMin] += 1 - chance;
+            return new Distribution(newMin, result).trim();
+        }
+
+        /**
+         * Drop impossible values from both ends, keeping at least one entry
+         */
+        Distribution trim() {
+            int first = 0;
+            int last = probabilities.length - 1;
+            while (first < last && probabilities[first] == 0) {
+                first++;
+            }
+            while (last > first && probabilities[last] == 0) {
+                last--;
+            }
+            if (first == 0 && last == probabilities.length - 1) {
+                return this;
+            }
+            return new Distribution(min + first, Arrays.copyOfRange(probabilities, first, last + 1));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Distribution other && min == other.min
+                && Arrays.equals(probabilities, other.probabilities);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * min + Arrays.hashCode(probabilities);
+        }
+
+        @Override
+        public String toString() {
+            return "Distribution[min=" + min + ", probabilities=" + Arrays.toString(probabilities) + "]";
+        }
+    }
+
+    /**
+     * Odds for one attack: chance to hit, chance the toughness test reduces the damage,
+     * and the damage distribution including misses
+     */
+    public record AttackOdds(double hitChance, double toughnessReductionChance, Distribution damage) {
+
+        public double expectedDamage() {
+            return damage.mean();
+        }
+    }
+
+    /**
+     * Odds for a characteristic test. The degree distributions are not conditional:
+     * summed they give the success and failure chances respectively.
+     */
+    public record TestOdds(double successChance, Distribution successDegrees, Distribution failureDegrees) {}
+}
@@ -0,0 +1,50 @@
+package com.warhammer.rpg.logic;
+
+/**
+ * Source of uniformly distributed random numbers behind DiceRoller.
+ * Implementations are not thread-safe; give each thread its own source via split().
+ */
+public interface RandomSource {
+
+    /**
+     * Return a uniformly distributed value between 0 (inclusive) and bound (exclusive)
+     */
+    int nextInt(int bound);
+
+    /**
+     * Fill dest[offset, offset + length) with values from nextInt(bound),
+     * consuming the stream exactly as the same number of scalar calls would
+     */
+    default void nextInts(int[] dest, int offset, int length, int bound) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            dest[i] = nextInt(bound);
+        }
+    }
+
+    /**
+     * Create an independent source for another worker.
+     * The child stream is fully determined by the state of this source.
+     */
+    RandomSource split();
+
+    /**
+     * Fast, statistically strong default backed by SplittableRandom
+     */
+    static RandomSource splittable(long seed) {
+        return new SplittableRandomSource(seed);
+    }
+
+    /**
+     * Java 17 L64X128MixRandom generator
+     */
+    static RandomSource l64x128(long seed) {
+        return GeneratorRandomSource.of("L64X128MixRandom", seed);
+    }
+
+    /**
+     * Java 17 Xoshiro256PlusPlus generator, split by jumping ahead
+     */
+    static RandomSource xoshiro256(long seed) {
+        return GeneratorRandomSource.of("Xoshiro256PlusPlus", seed);
+    }
+}
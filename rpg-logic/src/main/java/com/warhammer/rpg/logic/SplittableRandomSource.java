@@ -0,0 +1,40 @@
+package com.warhammer.rpg.logic;
+
+import java.util.SplittableRandom;
+
+/**
+ * RandomSource backed by java.util.SplittableRandom
+ */
+public final class SplittableRandomSource implements RandomSource {
+
+    private final SplittableRandom random;
+
+    public SplittableRandomSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    public SplittableRandomSource() {
+        this(new SplittableRandom());
+    }
+
+    private SplittableRandomSource(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public void nextInts(int[] dest, int offset, int length, int bound) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            dest[i] = random.nextInt(bound);
+        }
+    }
+
+    @Override
+    public RandomSource split() {
+        return new SplittableRandomSource(random.split());
+    }
+}
@@ -0,0 +1,56 @@
+package com.warhammer.rpg.model;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable ability list carrying the AbilitySet of its names, computed once.
+ * Enemy wraps its abilities in one, so equal lists compare equal to any other
+ * List and serialize as a plain JSON array.
+ */
+public final class AbilityList extends AbstractList<Ability> implements RandomAccess {
+
+    private static final AbilityList EMPTY = new AbilityList(new Ability[0], AbilitySet.EMPTY);
+
+    private final Ability[] abilities;
+    private final AbilitySet abilitySet;
+
+    private AbilityList(Ability[] abilities, AbilitySet abilitySet) {
+        this.abilities = abilities;
+        this.abilitySet = abilitySet;
+    }
+
+    /**
+     * Immutable copy of the abilities with their set, or the list itself if it already is one
+     */
+    public static AbilityList of(List<Ability> abilities) {
+        if (abilities instanceof AbilityList list) {
+            return list;
+        }
+        if (abilities.isEmpty()) {
+            return EMPTY;
+        }
+        Ability[] copy = abilities.toArray(new Ability[0]);
+        for (Ability ability : copy) {
+            if (ability == null) {
+                throw new IllegalArgumentException("Ability cannot be null");
+            }
+        }
+        return new AbilityList(copy, AbilitySet.of(List.of(copy)));
+    }
+
+    public AbilitySet abilitySet() {
+        return abilitySet;
+    }
+
+    @Override
+    public Ability get(int index) {
+        return abilities[index];
+    }
+
+    @Override
+    public int size() {
+        return abilities.length;
+    }
+}
@@ -0,0 +1,90 @@
+package com.warhammer.rpg.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry giving every distinct ability name, ignoring case, a
+ * dense id starting at 0. Ids are assigned on first sight and never reused, so
+ * they can index bit masks and be cached in constants by rule code.
+ * One entry per name ignoring case is kept for the life of the process; exact
+ * spellings are only a lookup shortcut and stop being cached past a limit.
+ * Thread-safe; lookups of known names do not lock.
+ */
+public final class AbilityRegistry {
+
+    /** Returned by lookup for names that were never registered */
+    public static final int UNKNOWN = -1;
+
+    private static final int MAX_SPELLINGS = 8192;
+
+    // Exact spellings already seen, checked before folding case
+    private static final Map<String, Integer> BY_SPELLING = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> BY_FOLDED_NAME = new ConcurrentHashMap<>();
+    private static final List<String> NAMES = new ArrayList<>();
+
+    private AbilityRegistry() {
+    }
+
+    /**
+     * Id of the ability name, registering it if needed
+     */
+    public static int idOf(String name) {
+        Integer id = BY_SPELLING.get(name);
+        if (id != null) {
+            return id;
+        }
+        String folded = fold(name);
+        synchronized (NAMES) {
+            id = BY_FOLDED_NAME.get(folded);
+            if (id == null) {
+                id = NAMES.size();
+                NAMES.add(name);
+                BY_FOLDED_NAME.put(folded, id);
+            }
+        }
+        if (BY_SPELLING.size() < MAX_SPELLINGS) {
+            BY_SPELLING.putIfAbsent(name, id);
+        }
+        return id;
+    }
+
+    /**
+     * Id of a registered ability name ignoring case, or UNKNOWN
+     */
+    public static int lookup(String name) {
+        if (name == null) {
+            return UNKNOWN;
+        }
+        Integer id = BY_SPELLING.get(name);
+        if (id == null) {
+            id = BY_FOLDED_NAME.get(fold(name));
+        }
+        return id != null ? id : UNKNOWN;
+    }
+
+    /**
+     * Ability name as first registered
+     */
+    public static String nameOf(int id) {
+        synchronized (NAMES) {
+            return NAMES.get(id);
+        }
+    }
+
+    /**
+     * Number of registered names; every id is below this
+     */
+    public static int size() {
+        synchronized (NAMES) {
+            return NAMES.size();
+        }
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,153 @@
+package com.warhammer.rpg.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable set of ability ids from AbilityRegistry, stored as a bit mask.
+ * Membership is a single bit test and combining sets is a word-wise OR.
+ */
+public final class AbilitySet {
+
+    public static final AbilitySet EMPTY = new AbilitySet(new long[0]);
+
+    private final long[] words;
+
+    private AbilitySet(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Set of the abilities' registry ids
+     */
+    public static AbilitySet of(Collection<Ability> abilities) {
+        if (abilities.isEmpty()) {
+            return EMPTY;
+        }
+        long[] words = new long[0];
+        for (Ability ability : abilities) {
+            int id = AbilityRegistry.idOf(ability.name());
+            if ((id >>> 6) >= words.length) {
+                words = Arrays.copyOf(words, (id >>> 6) + 1);
+            }
+            words[id >>> 6] |= 1L << id;
+        }
+        return new AbilitySet(words);
+    }
+
+    /**
+     * Abilities held by at least one of the enemies
+     */
+    public static AbilitySet union(Collection<Enemy> enemies) {
+        long[] words = new long[0];
+        for (Enemy enemy : enemies) {
+            long[] other = enemy.abilitySet().words;
+            if (other.length > words.length) {
+                words = Arrays.copyOf(words, other.length);
+            }
+            for (int i = 0; i < other.length; i++) {
+                words[i] |= other[i];
+            }
+        }
+        return words.length == 0 ? EMPTY : new AbilitySet(words);
+    }
+
+    /**
+     * Whether the set holds the registry id; false for UNKNOWN
+     */
+    public boolean contains(int abilityId) {
+        int word = abilityId >>> 6;
+        return abilityId >= 0 && word < words.length && (words[word] & (1L << abilityId)) != 0;
+    }
+
+    public boolean contains(String abilityName) {
+        return contains(AbilityRegistry.lookup(abilityName));
+    }
+
+    /**
+     * Whether both sets share at least one ability
+     */
+    public boolean intersects(AbilitySet other) {
+        int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether every ability of the other set is in this one
+     */
+    public boolean containsAll(AbilitySet other) {
+        for (int i = 0; i < other.words.length; i++) {
+            long mine = i < words.length ? words[i] : 0;
+            if ((other.words[i] & ~mine) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof AbilitySet other)) {
+            return false;
+        }
+        int length = Math.max(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            long mine = i < words.length ? words[i] : 0;
+            long theirs = i < other.words.length ? other.words[i] : 0;
+            if (mine != theirs) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.hashCode(Arrays.copyOf(words, length));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("[");
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                if (text.length() > 1) {
+                    text.append(", ");
+                }
+                text.append(AbilityRegistry.nameOf((w << 6) + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+        return text.append(']').toString();
+    }
+}
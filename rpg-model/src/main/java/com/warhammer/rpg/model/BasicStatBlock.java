@@ -4,7 +4,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  * Basic implementation of StatBlock using Java record
- * for Warhammer Fantasy 2e character attributes
+ * for Warhammer Fantasy 2e character attributes.
+ * Equal to any StatBlock with the same values, see PackedStatBlock.
  */
 public record BasicStatBlock(
     @JsonProperty("weaponSkill") int weaponSkill,
@@ -68,4 +69,14 @@ public record BasicStatBlock(
     public int getWounds() {
         return wounds;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof StatBlock other && StatBlock.sameValues(this, other);
+    }
+
+    @Override
+    public int hashCode() {
+        return StatBlock.hashValues(this);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.warhammer.rpg.model;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * The characteristics of a StatBlock, for code that works on any of them
+ */
+public enum Characteristic {
+    WEAPON_SKILL("WS", StatBlock::getWeaponSkill),
+    BALLISTIC_SKILL("BS", StatBlock::getBallisticSkill),
+    STRENGTH("S", StatBlock::getStrength),
+    TOUGHNESS("T", StatBlock::getToughness),
+    AGILITY("Ag", StatBlock::getAgility),
+    INTELLIGENCE("Int", StatBlock::getIntelligence),
+    WILL_POWER("WP", StatBlock::getWillPower),
+    FELLOWSHIP("Fel", StatBlock::getFellowship),
+    ATTACKS("A", StatBlock::getAttacks),
+    WOUNDS("W", StatBlock::getWounds);
+
+    private final String abbreviation;
+    private final ToIntFunction<StatBlock> getter;
+
+    Characteristic(String abbreviation, ToIntFunction<StatBlock> getter) {
+        this.abbreviation = abbreviation;
+        this.getter = getter;
+    }
+
+    /**
+     * Short name as printed on a profile, e.g. "WS"
+     */
+    public String abbreviation() {
+        return abbreviation;
+    }
+
+    /**
+     * Value of this characteristic in the stat block
+     */
+    public int of(StatBlock stats) {
+        return getter.applyAsInt(stats);
+    }
+}
@@ -1,21 +1,32 @@
 package com.warhammer.rpg.model;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import java.util.ArrayList;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.util.List;
 
 /**
- * Enemy includes stats, abilities, weapon, and metadata
+ * Enemy includes stats, abilities, weapon, and metadata.
+ * A currentWounds of zero or less means full wounds. Defeated enemies are
+ * written to JSON with currentWounds 0 and an extra "defeated": true.
  */
 public record Enemy(
     @JsonProperty("id") String id,
     @JsonProperty("name") String name,
-    @JsonProperty("stats") BasicStatBlock stats,
+    @JsonProperty("stats") @JsonDeserialize(as = BasicStatBlock.class) StatBlock stats,
     @JsonProperty("abilities") List<Ability> abilities,
     @JsonProperty("weaponName") String weaponName,
     @JsonProperty("currentWounds") int currentWounds
 ) {
     
+    /**
+     * Stored for defeated enemies; every other value up to zero means "not
+     * set" and starts the enemy at full wounds
+     */
+    private static final int DEFEATED = Integer.MIN_VALUE;
+    
     public Enemy {
         // Validation
         if (id == null || id.trim().isEmpty()) {
@@ -27,29 +38,74 @@ public record Enemy(
         if (stats == null) {
             throw new IllegalArgumentException("Enemy stats cannot be null");
         }
-        if (abilities == null) {
-            abilities = new ArrayList<>();
-        }
+        // Immutable, with the ability bit mask computed once per list
+        abilities = AbilityList.of(abilities == null ? List.of() : abilities);
         if (weaponName == null) {
             weaponName = "";
         }
-        if (currentWounds <= 0) {
+        if (currentWounds <= 0 && currentWounds != DEFEATED) {
             currentWounds = stats.wounds();
         }
     }
     
+    @JsonCreator
+    private static Enemy fromJson(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("stats") @JsonDeserialize(as = BasicStatBlock.class) StatBlock stats,
+        @JsonProperty("abilities") List<Ability> abilities,
+        @JsonProperty("weaponName") String weaponName,
+        @JsonProperty("currentWounds") int currentWounds,
+        @JsonProperty("defeated") boolean defeated
+    ) {
+        return new Enemy(id, name, stats, abilities, weaponName, defeated ? DEFEATED : currentWounds);
+    }
+    
+    /**
+     * Current wounds, zero once the enemy has been defeated
+     */
+    @Override
+    public int currentWounds() {
+        return Math.max(0, currentWounds);
+    }
+    
+    /**
+     * Written to JSON only when true, since a currentWounds of zero reads back as full wounds
+     */
+    @JsonProperty("defeated")
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private boolean defeated() {
+        return currentWounds == DEFEATED;
+    }
+    
+    /**
+     * Registry ids of the enemy's abilities
+     */
+    public AbilitySet abilitySet() {
+        return ((AbilityList) abilities).abilitySet();
+    }
+    
     /**
-     * Check if enemy has a specific ability
+     * Check if enemy has a specific ability, ignoring case
      */
     public boolean hasAbility(String abilityName) {
-        return abilities.stream()
-                .anyMatch(ability -> ability.name().equalsIgnoreCase(abilityName));
+        return abilitySet().contains(abilityName);
+    }
+    
+    /**
+     * Check if enemy has the ability with the given AbilityRegistry id, a single bit test
+     */
+    public boolean hasAbility(int abilityId) {
+        return abilitySet().contains(abilityId);
     }
     
     /**
      * Get ability by name
      */
     public Ability getAbility(String abilityName) {
+        if (!hasAbility(abilityName)) {
+            return null;
+        }
         return abilities.stream()
                 .filter(ability -> ability.name().equalsIgnoreCase(abilityName))
                 .findFirst()
@@ -59,6 +115,7 @@ public record Enemy(
     /**
      * Check if enemy is alive
      */
+    @JsonIgnore
     public boolean isAlive() {
         return currentWounds > 0;
     }
@@ -67,14 +124,14 @@ public record Enemy(
      * Create a copy with updated wounds
      */
     public Enemy withCurrentWounds(int newWounds) {
-        return new Enemy(id, name, stats, abilities, weaponName, Math.max(0, newWounds));
+        return new Enemy(id, name, stats, abilities, weaponName, newWounds > 0 ? newWounds : DEFEATED);
     }
     
     /**
      * Apply damage to enemy
      */
     public Enemy takeDamage(int damage) {
-        return withCurrentWounds(currentWounds - damage);
+        return withCurrentWounds(currentWounds() - damage);
     }
     
     /**
@@ -82,6 +139,6 @@ public record Enemy(
      */
     public Enemy heal(int healing) {
         int maxWounds = stats.wounds();
-        return withCurrentWounds(Math.min(maxWounds, currentWounds + healing));
+        return withCurrentWounds(Math.min(maxWounds, currentWounds() + healing));
     }
 }
\ No newline at end of file
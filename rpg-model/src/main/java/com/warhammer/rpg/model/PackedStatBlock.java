@@ -0,0 +1,140 @@
+package com.warhammer.rpg.model;
+
+/**
+ * Compact StatBlock for loaded bestiaries: the eight percentile characteristics
+ * take 7 bits each and Attacks 8 bits of one long, with Wounds in an int, so an
+ * instance is 24 bytes instead of the 56 of a BasicStatBlock. Percentile values
+ * must be 0-127 and Attacks 0-255; use of() to pack only what fits.
+ */
+public final class PackedStatBlock implements StatBlock {
+
+    private static final int PERCENTILE_BITS = 7;
+    private static final int MAX_PERCENTILE = (1 << PERCENTILE_BITS) - 1;
+    private static final int ATTACKS_SHIFT = 8 * PERCENTILE_BITS;
+    private static final int MAX_ATTACKS = 0xFF;
+
+    private final long characteristics;
+    private final int wounds;
+
+    public PackedStatBlock(int weaponSkill, int ballisticSkill, int strength, int toughness, int agility,
+                           int intelligence, int willPower, int fellowship, int attacks, int wounds) {
+        if (attacks < 0 || attacks > MAX_ATTACKS) {
+            throw new IllegalArgumentException("Attacks " + attacks + " do not fit a packed stat block");
+        }
+        this.characteristics = percentile(weaponSkill, 0) | percentile(ballisticSkill, 1)
+            | percentile(strength, 2) | percentile(toughness, 3) | percentile(agility, 4)
+            | percentile(intelligence, 5) | percentile(willPower, 6) | percentile(fellowship, 7)
+            | ((long) attacks << ATTACKS_SHIFT);
+        this.wounds = wounds;
+    }
+
+    /**
+     * Packed copy of the stat block, or the stat block itself if it is already
+     * packed or its values do not fit
+     */
+    public static StatBlock of(StatBlock stats) {
+        if (stats instanceof PackedStatBlock || !fits(stats)) {
+            return stats;
+        }
+        return new PackedStatBlock(stats.getWeaponSkill(), stats.getBallisticSkill(), stats.getStrength(),
+            stats.getToughness(), stats.getAgility(), stats.getIntelligence(), stats.getWillPower(),
+            stats.getFellowship(), stats.getAttacks(), stats.getWounds());
+    }
+
+    /**
+     * Whether every value of the stat block fits the packed layout
+     */
+    public static boolean fits(StatBlock stats) {
+        return fitsPercentile(stats.getWeaponSkill()) && fitsPercentile(stats.getBallisticSkill())
+            && fitsPercentile(stats.getStrength()) && fitsPercentile(stats.getToughness())
+            && fitsPercentile(stats.getAgility()) && fitsPercentile(stats.getIntelligence())
+            && fitsPercentile(stats.getWillPower()) && fitsPercentile(stats.getFellowship())
+            && stats.getAttacks() >= 0 && stats.getAttacks() <= MAX_ATTACKS;
+    }
+
+    private static boolean fitsPercentile(int value) {
+        return value >= 0 && value <= MAX_PERCENTILE;
+    }
+
+    private static long percentile(int value, int index) {
+        if (!fitsPercentile(value)) {
+            throw new IllegalArgumentException("Characteristic " + value + " does not fit a packed stat block");
+        }
+        return (long) value << (index * PERCENTILE_BITS);
+    }
+
+    private int percentileAt(int index) {
+        return (int) (characteristics >>> (index * PERCENTILE_BITS)) & MAX_PERCENTILE;
+    }
+
+    @Override
+    public int getWeaponSkill() {
+        return percentileAt(0);
+    }
+
+    @Override
+    public int getBallisticSkill() {
+        return percentileAt(1);
+    }
+
+    @Override
+    public int getStrength() {
+        return percentileAt(2);
+    }
+
+    @Override
+    public int getToughness() {
+        return percentileAt(3);
+    }
+
+    @Override
+    public int getAgility() {
+        return percentileAt(4);
+    }
+
+    @Override
+    public int getIntelligence() {
+        return percentileAt(5);
+    }
+
+    @Override
+    public int getWillPower() {
+        return percentileAt(6);
+    }
+
+    @Override
+    public int getFellowship() {
+        return percentileAt(7);
+    }
+
+    @Override
+    public int getAttacks() {
+        return (int) (characteristics >>> ATTACKS_SHIFT) & MAX_ATTACKS;
+    }
+
+    @Override
+    public int getWounds() {
+        return wounds;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof PackedStatBlock other) {
+            return characteristics == other.characteristics && wounds == other.wounds;
+        }
+        return obj instanceof StatBlock other && StatBlock.sameValues(this, other);
+    }
+
+    @Override
+    public int hashCode() {
+        return StatBlock.hashValues(this);
+    }
+
+    @Override
+    public String toString() {
+        return "PackedStatBlock[weaponSkill=" + getWeaponSkill() + ", ballisticSkill=" + getBallisticSkill()
+            + ", strength=" + getStrength() + ", toughness=" + getToughness() + ", agility=" + getAgility()
+            + ", intelligence=" + getIntelligence() + ", willPower=" + getWillPower()
+            + ", fellowship=" + getFellowship() + ", attacks=" + getAttacks() + ", wounds=" + wounds + "]";
+    }
+}
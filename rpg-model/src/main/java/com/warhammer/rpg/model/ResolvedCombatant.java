@@ -0,0 +1,28 @@
+package com.warhammer.rpg.model;
+
+/**
+ * Enemy linked to the weapon named by its weaponName, resolved once at load time
+ */
+public record ResolvedCombatant(
+    Enemy enemy,
+    Weapon weapon
+) {
+    
+    public ResolvedCombatant {
+        // Validation
+        if (enemy == null) {
+            throw new IllegalArgumentException("Combatant enemy cannot be null");
+        }
+        if (weapon == null) {
+            throw new IllegalArgumentException("Combatant weapon cannot be null");
+        }
+    }
+    
+    public String id() {
+        return enemy.id();
+    }
+    
+    public String name() {
+        return enemy.name();
+    }
+}
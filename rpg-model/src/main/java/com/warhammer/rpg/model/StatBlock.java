@@ -1,7 +1,8 @@
 package com.warhammer.rpg.model;
 
 /**
- * Interface defining character attributes for Warhammer Fantasy 2e
+ * Interface defining character attributes for Warhammer Fantasy 2e.
+ * Implementations with the same ten values are equal to each other.
  */
 public interface StatBlock {
     int getWeaponSkill();
@@ -14,4 +15,78 @@ public interface StatBlock {
     int getFellowship();
     int getAttacks();
     int getWounds();
-}
\ No newline at end of file
+
+    // Record-style accessors, so callers need not know the implementation
+
+    default int weaponSkill() {
+        return getWeaponSkill();
+    }
+
+    default int ballisticSkill() {
+        return getBallisticSkill();
+    }
+
+    default int strength() {
+        return getStrength();
+    }
+
+    default int toughness() {
+        return getToughness();
+    }
+
+    default int agility() {
+        return getAgility();
+    }
+
+    default int intelligence() {
+        return getIntelligence();
+    }
+
+    default int willPower() {
+        return getWillPower();
+    }
+
+    default int fellowship() {
+        return getFellowship();
+    }
+
+    default int attacks() {
+        return getAttacks();
+    }
+
+    default int wounds() {
+        return getWounds();
+    }
+
+    /**
+     * Whether both stat blocks hold the same ten values
+     */
+    static boolean sameValues(StatBlock a, StatBlock b) {
+        return a.getWeaponSkill() == b.getWeaponSkill()
+            && a.getBallisticSkill() == b.getBallisticSkill()
+            && a.getStrength() == b.getStrength()
+            && a.getToughness() == b.getToughness()
+            && a.getAgility() == b.getAgility()
+            && a.getIntelligence() == b.getIntelligence()
+            && a.getWillPower() == b.getWillPower()
+            && a.getFellowship() == b.getFellowship()
+            && a.getAttacks() == b.getAttacks()
+            && a.getWounds() == b.getWounds();
+    }
+
+    /**
+     * Hash code shared by all implementations
+     */
+    static int hashValues(StatBlock stats) {
+        int hash = stats.getWeaponSkill();
+        hash = 31 * hash + stats.getBallisticSkill();
+        hash = 31 * hash + stats.getStrength();
+        hash = 31 * hash + stats.getToughness();
+        hash = 31 * hash + stats.getAgility();
+        hash = 31 * hash + stats.getIntelligence();
+        hash = 31 * hash + stats.getWillPower();
+        hash = 31 * hash + stats.getFellowship();
+        hash = 31 * hash + stats.getAttacks();
+        return 31 * hash + stats.getWounds();
+    }
+}
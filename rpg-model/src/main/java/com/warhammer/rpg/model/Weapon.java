@@ -1,9 +1,11 @@
 package com.warhammer.rpg.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
- * Weapon details including base damage and traits
+ * Weapon details including base damage and traits.
+ * The traits string is parsed once per distinct string, see WeaponTraits.of.
  */
 public record Weapon(
     @JsonProperty("id") String id,
@@ -29,19 +31,32 @@ public record Weapon(
     }
     
     /**
-     * Check if weapon has a specific trait
+     * Parsed traits, shared by all weapons with the same traits string
+     */
+    @JsonIgnore
+    public WeaponTraits traitSet() {
+        return WeaponTraits.of(traits);
+    }
+    
+    /**
+     * Check if weapon has a specific trait, matching whole traits ignoring case
      */
     public boolean hasTrait(String trait) {
-        return traits.toLowerCase().contains(trait.toLowerCase());
+        return traitSet().has(trait);
+    }
+    
+    /**
+     * Check if weapon has a known trait
+     */
+    public boolean hasTrait(WeaponTrait trait) {
+        return traitSet().has(trait);
     }
     
     /**
      * Get all traits as array
      */
+    @JsonIgnore
     public String[] getTraitsArray() {
-        if (traits.trim().isEmpty()) {
-            return new String[0];
-        }
-        return traits.split(",\\s*");
+        return traitSet().tokens().toArray(new String[0]);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package com.warhammer.rpg.model;
+
+/**
+ * Weapon traits known to the rules, with their spelling in the data files
+ */
+public enum WeaponTrait {
+    ONE_HANDED("one-handed"),
+    TWO_HANDED("two-handed"),
+    RANGED("ranged"),
+    RELOAD("reload"),
+    REACH("reach"),
+    PIERCING("piercing"),
+    ARMOUR_PIERCING("armour piercing"),
+    BALANCED("balanced"),
+    CRUDE("crude"),
+    HEAVY("heavy"),
+    DEFENSIVE("defensive"),
+    FAST("fast"),
+    SLOW("slow"),
+    IMPACT("impact"),
+    PRECISE("precise"),
+    PUMMELLING("pummelling"),
+    SNARE("snare"),
+    TIRING("tiring"),
+    UNRELIABLE("unreliable"),
+    EXPERIMENTAL("experimental"),
+    SHRAPNEL("shrapnel"),
+    SPECIAL("special");
+
+    private static final WeaponTrait[] VALUES = values();
+
+    private final String label;
+
+    WeaponTrait(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Name as written in the traits string, e.g. "one-handed"
+     */
+    public String label() {
+        return label;
+    }
+
+    /**
+     * Trait with the given label ignoring case, or null if it is not a known trait
+     */
+    public static WeaponTrait fromLabel(String label) {
+        for (WeaponTrait trait : VALUES) {
+            if (trait.label.equalsIgnoreCase(label)) {
+                return trait;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,144 @@
+package com.warhammer.rpg.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A weapon's traits string parsed once: known traits as an EnumSet, any other
+ * trait as an interned string. Checks never allocate. Equality follows the
+ * original string, which stays available for display.
+ */
+public final class WeaponTraits {
+
+    public static final WeaponTraits NONE = parse("");
+
+    /** Bound on remembered strings; armouries use few distinct ones */
+    private static final int MEMO_LIMIT = 4096;
+    private static final Map<String, WeaponTraits> MEMO = new ConcurrentHashMap<>();
+
+    private final String source;
+    private final Set<WeaponTrait> known;
+    private final List<String> custom;
+    private final List<String> tokens;
+
+    private WeaponTraits(String source, Set<WeaponTrait> known, List<String> custom, List<String> tokens) {
+        this.source = source;
+        this.known = known;
+        this.custom = custom;
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parsed traits for the string, shared with earlier calls for an equal
+     * string. Lookups do not allocate. Past MEMO_LIMIT distinct strings the
+     * memo starts over, so it stays small whatever is loaded.
+     */
+    public static WeaponTraits of(String traits) {
+        if (traits.isEmpty()) {
+            return NONE;
+        }
+        WeaponTraits parsed = MEMO.get(traits);
+        if (parsed == null) {
+            if (MEMO.size() >= MEMO_LIMIT) {
+                MEMO.clear();
+            }
+            WeaponTraits created = parse(traits);
+            parsed = MEMO.putIfAbsent(traits, created);
+            if (parsed == null) {
+                parsed = created;
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Parse a comma-separated traits string such as "one-handed, balanced"
+     */
+    public static WeaponTraits parse(String traits) {
+        EnumSet<WeaponTrait> known = EnumSet.noneOf(WeaponTrait.class);
+        List<String> custom = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (String part : traits.split(",")) {
+            String token = part.trim();
+            if (token.isEmpty()) {
+                continue;
+            }
+            tokens.add(token);
+            WeaponTrait trait = WeaponTrait.fromLabel(token);
+            if (trait != null) {
+                known.add(trait);
+            } else {
+                custom.add(token.intern());
+            }
+        }
+        return new WeaponTraits(traits, Collections.unmodifiableSet(known),
+            List.copyOf(custom), List.copyOf(tokens));
+    }
+
+    /**
+     * Check for a known trait, a single bit test
+     */
+    public boolean has(WeaponTrait trait) {
+        return known.contains(trait);
+    }
+
+    /**
+     * Check for a whole trait by name ignoring case, known or custom
+     */
+    public boolean has(String trait) {
+        for (int i = 0; i < tokens.size(); i++) {
+            if (tokens.get(i).equalsIgnoreCase(trait)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Known traits, unmodifiable
+     */
+    public Set<WeaponTrait> known() {
+        return known;
+    }
+
+    /**
+     * Traits the rules do not know about, as written
+     */
+    public List<String> custom() {
+        return custom;
+    }
+
+    /**
+     * All traits in their original order and spelling
+     */
+    public List<String> tokens() {
+        return tokens;
+    }
+
+    /**
+     * The traits string as loaded
+     */
+    public String source() {
+        return source;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof WeaponTraits other && source.equals(other.source);
+    }
+
+    @Override
+    public int hashCode() {
+        return source.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,146 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Ability;
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Characteristic;
+import com.warhammer.rpg.model.Enemy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests for the binary bestiary format and MappedEnemyRepository
+ */
+class BinaryBestiaryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRoundTripOfBundledEnemies() throws Exception {
+        EnemyRepository json = new EnemyRepository();
+        Path file = tempDir.resolve("bestiary.bin");
+        BinaryBestiary.write(json.getAllEnemies(), file);
+
+        try (MappedEnemyRepository mapped = new MappedEnemyRepository(file)) {
+            assertEquals(json.getEnemyCount(), mapped.getEnemyCount());
+            assertEquals(json.getAllEnemies(), new ArrayList<>(mapped.getAllEnemies()));
+            for (Enemy enemy : json.getAllEnemies()) {
+                assertEquals(enemy, mapped.findById(enemy.id()).orElseThrow());
+                assertEquals(enemy, mapped.findByName(enemy.name().toUpperCase()).orElseThrow());
+            }
+            assertTrue(mapped.findById("nonexistent").isEmpty());
+            assertTrue(mapped.findByName(null).isEmpty());
+        }
+    }
+
+    @Test
+    void testConvertFromJson() throws Exception {
+        Path json = Files.writeString(tempDir.resolve("enemies.json"), "[{\"id\": \"rat\", \"name\": \"Rat\", "
+            + "\"stats\": {\"weaponSkill\": 25, \"toughness\": 2, \"wounds\": 3}, \"abilities\": "
+            + "[{\"name\": \"Fëarful\", \"description\": \"Flees ✓\"}]}, {\"id\": \"\"}]");
+        Path binary = tempDir.resolve("out").resolve("enemies.bin");
+
+        List<LoadDiagnostic> diagnostics = BinaryBestiary.convert(json, binary);
+
+        assertEquals(1, diagnostics.size());
+        try (MappedEnemyRepository mapped = new MappedEnemyRepository(binary)) {
+            Enemy rat = mapped.get(0);
+            assertEquals("Fëarful", rat.abilities().get(0).name());
+            assertEquals("Flees ✓", rat.abilities().get(0).description());
+            assertEquals(3, rat.currentWounds());
+            assertEquals(25, mapped.getStat(Characteristic.WEAPON_SKILL, 0));
+            assertEquals(2, mapped.getStat(Characteristic.TOUGHNESS, 0));
+        }
+    }
+
+    @Test
+    void testDuplicatesAndDefeatedEnemies() throws Exception {
+        BasicStatBlock stats = new BasicStatBlock(30, 30, 3, 3, 30, 30, 30, 30, 1, 8);
+        Ability fear = new Ability("Fear", "Causes fear");
+        List<Enemy> enemies = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            enemies.add(new Enemy("enemy-" + i, "Enemy " + (i % 250), stats, i % 2 == 0 ? List.of(fear) : List.of(),
+                "Sword", 8));
+        }
+        enemies.add(enemies.get(0).withCurrentWounds(0));
+        Path file = tempDir.resolve("enemies.bin");
+        BinaryBestiary.write(enemies, file);
+
+        try (MappedEnemyRepository mapped = new MappedEnemyRepository(file)) {
+            assertEquals("enemy-7", mapped.findByName("enemy 7").orElseThrow().id());
+            assertEquals("enemy-0", mapped.findById("enemy-0").orElseThrow().id());
+            assertEquals(8, mapped.findById("enemy-0").orElseThrow().currentWounds());
+            assertEquals(0, mapped.get(500).currentWounds());
+            assertFalse(mapped.get(500).isAlive());
+            assertEquals(enemies, List.copyOf(mapped.getAllEnemies()));
+        }
+    }
+
+    @Test
+    void testReadsAfterCloseFail() throws Exception {
+        Path file = tempDir.resolve("bestiary.bin");
+        BinaryBestiary.write(new EnemyRepository().getAllEnemies(), file);
+        MappedEnemyRepository mapped = new MappedEnemyRepository(file);
+        List<Enemy> view = mapped.getAllEnemies();
+        assertNotNull(view.get(0));
+
+        mapped.close();
+        mapped.close();
+
+        assertThrows(IllegalStateException.class, () -> view.get(0));
+        assertThrows(IllegalStateException.class, () -> mapped.findById("goblin"));
+        assertThrows(IllegalStateException.class, () -> mapped.getStat(Characteristic.TOUGHNESS, 0));
+        // Unmapped, so the file can be replaced
+        Files.delete(file);
+    }
+
+    @Test
+    void testCloseWhileReading() throws Exception {
+        Path file = tempDir.resolve("bestiary.bin");
+        BinaryBestiary.write(new EnemyRepository().getAllEnemies(), file);
+        MappedEnemyRepository mapped = new MappedEnemyRepository(file);
+        int count = mapped.getEnemyCount();
+
+        // Readers racing close() must see either data or IllegalStateException, never an unmapped page
+        List<Thread> readers = new ArrayList<>();
+        AtomicBoolean readAfterUnmap = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            Thread reader = new Thread(() -> {
+                started.countDown();
+                try {
+                    for (int i = 0; ; i = (i + 1) % count) {
+                        mapped.get(i);
+                        mapped.getStat(Characteristic.TOUGHNESS, i);
+                    }
+                } catch (IllegalStateException e) {
+                    // Closed
+                } catch (RuntimeException e) {
+                    readAfterUnmap.set(true);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        started.await();
+        mapped.close();
+        for (Thread reader : readers) {
+            reader.join(30_000);
+        }
+        assertFalse(readAfterUnmap.get());
+    }
+
+    @Test
+    void testRejectsOtherFiles() throws Exception {
+        Path file = Files.write(tempDir.resolve("other.bin"), new byte[] {1, 2, 3, 4});
+        assertThrows(IllegalArgumentException.class, () -> new MappedEnemyRepository(file));
+    }
+}
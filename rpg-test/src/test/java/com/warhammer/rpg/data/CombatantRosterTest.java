@@ -0,0 +1,65 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.ResolvedCombatant;
+import com.warhammer.rpg.model.Weapon;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Unit tests for CombatantRoster
+ */
+class CombatantRosterTest {
+
+    @Test
+    void testBundledEnemiesAllLink() {
+        EnemyRepository enemies = new EnemyRepository();
+        WeaponRepository weapons = new WeaponRepository();
+        CombatantRoster roster = CombatantRoster.link(enemies, weapons);
+
+        assertTrue(roster.getDiagnostics().isEmpty(), () -> roster.getDiagnostics().toString());
+        assertEquals(enemies.getEnemyCount(), roster.getCombatantCount());
+        for (ResolvedCombatant combatant : roster.getCombatants()) {
+            assertSame(weapons.findByName(combatant.enemy().weaponName()).orElseThrow(), combatant.weapon());
+        }
+    }
+
+    @Test
+    void testLinksIgnoringCaseAndSharesWeapons() {
+        Weapon spear = new Weapon("spear", "Spear", 3, "fast");
+        CombatantRoster roster = CombatantRoster.link(
+            List.of(enemy("a", "spear"), enemy("b", "SPEAR")), new WeaponRepository(List.of(spear)));
+
+        assertEquals(2, roster.getCombatantCount());
+        assertSame(spear, roster.findById("a").orElseThrow().weapon());
+        assertSame(spear, roster.findByName("enemy B").orElseThrow().weapon());
+        assertEquals("b", roster.getCombatants().get(1).id());
+    }
+
+    @Test
+    void testDanglingWeaponsAreReported() {
+        WeaponRepository weapons = new WeaponRepository(List.of(new Weapon("spear", "Spear", 3, "")));
+        CombatantRoster roster = CombatantRoster.link(
+            List.of(enemy("armed", "Spear"), enemy("lost", "Halberd"), enemy("unarmed", "")), weapons);
+
+        assertEquals(List.of("armed"), roster.getCombatants().stream().map(ResolvedCombatant::id).toList());
+        assertTrue(roster.findById("lost").isEmpty());
+        assertEquals(2, roster.getDiagnostics().size());
+        assertTrue(roster.getDiagnostics().get(0).message().contains("'Halberd'"));
+        assertTrue(roster.getDiagnostics().get(1).message().contains("'unarmed'"));
+    }
+
+    @Test
+    void testBootstrapLinksAfterLoading() {
+        CombatantRoster roster = RepositoryBootstrap.start().combatants().join();
+        assertTrue(roster.findById("orc").isPresent());
+    }
+
+    private Enemy enemy(String id, String weaponName) {
+        return new Enemy(id, "Enemy " + id.toUpperCase(), new BasicStatBlock(30, 30, 3, 3, 30, 30, 30, 30, 1, 8),
+            List.of(), weaponName, 8);
+    }
+}
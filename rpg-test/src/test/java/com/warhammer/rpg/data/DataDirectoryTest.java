@@ -0,0 +1,115 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Weapon;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for loading repositories from data directories and reloading them
+ */
+class DataDirectoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testLoadsAllJsonFilesInNameOrder() throws Exception {
+        write("b-ranged.json", weapon("bow", "Bow", "ranged"));
+        write("a-melee.json", weapon("club", "Club", "crude") + "," + weapon("axe", "Axe", "one-handed"));
+        write("notes.txt", "not data");
+
+        WeaponRepository repository = new WeaponRepository(tempDir);
+
+        assertEquals(List.of("club", "axe", "bow"), ids(repository.getAllWeapons()));
+        assertEquals("Bow", repository.findByTrait("ranged").get(0).name());
+    }
+
+    @Test
+    void testReloadPublishesNewSnapshot() throws Exception {
+        write("weapons.json", weapon("club", "Club", "crude"));
+        WeaponRepository repository = new WeaponRepository(tempDir);
+        List<Weapon> before = repository.getAllWeapons();
+
+        write("weapons.json", weapon("club", "Club", "crude") + "," + weapon("spear", "Spear", "reach"));
+        write("broken.json", "[{\"id\": \"x\"}]");
+        repository.reload();
+
+        assertEquals(List.of("club"), ids(before));
+        assertEquals(List.of("club", "spear"), ids(repository.getAllWeapons()));
+        assertTrue(repository.findByName("spear").isPresent());
+        assertEquals(1, repository.getLoadDiagnostics().size());
+    }
+
+    @Test
+    void testWatcherReparsesChangedFiles() throws Exception {
+        write("a.json", weapon("club", "Club", "crude"));
+        write("b.json", weapon("bow", "Bow", "ranged"));
+        WeaponRepository repository = new WeaponRepository(tempDir);
+        CountDownLatch reloaded = new CountDownLatch(1);
+
+        try (DirectoryWatcher watcher = repository.watchForChanges(reloaded::countDown)) {
+            Files.delete(tempDir.resolve("b.json"));
+            write("c.json", weapon("spear", "Spear", "reach"));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+                while (!ids(repository.getAllWeapons()).equals(List.of("club", "spear"))) {
+                    reloaded.await(100, TimeUnit.MILLISECONDS);
+                }
+            });
+        }
+        assertTrue(repository.findById("bow").isEmpty());
+    }
+
+    @Test
+    void testWatcherReportsFailedReloads() throws Exception {
+        write("a.json", weapon("club", "Club", "crude"));
+        WeaponRepository repository = new WeaponRepository(tempDir);
+
+        try (DirectoryWatcher watcher = repository.watchForChanges(() -> {
+            throw new IllegalStateException("listener broke");
+        })) {
+            write("b.json", weapon("bow", "Bow", "ranged"));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+                while (repository.getLoadDiagnostics().stream()
+                        .noneMatch(diagnostic -> diagnostic.message().contains("listener broke"))) {
+                    Thread.sleep(50);
+                }
+            });
+        }
+        assertEquals(List.of("club", "bow"), ids(repository.getAllWeapons()));
+    }
+
+    @Test
+    void testReloadRequiresDirectory() {
+        WeaponRepository repository = new WeaponRepository(List.of());
+        assertThrows(IllegalStateException.class, repository::reload);
+        assertThrows(IllegalStateException.class, () -> repository.watchForChanges(() -> { }));
+    }
+
+    private void write(String name, String entries) throws Exception {
+        String content = name.endsWith(".json") && !entries.startsWith("[") ? "[" + entries + "]" : entries;
+        Path target = tempDir.resolve(name);
+        Path temp = tempDir.resolve(name + ".tmp");
+        Files.writeString(temp, content);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private String weapon(String id, String name, String traits) {
+        return "{\"id\": \"" + id + "\", \"name\": \"" + name + "\", \"damage\": 1, \"traits\": \"" + traits + "\"}";
+    }
+
+    private List<String> ids(List<Weapon> weapons) {
+        return weapons.stream().map(Weapon::id).toList();
+    }
+}
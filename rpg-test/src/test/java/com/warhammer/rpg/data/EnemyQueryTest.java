@@ -0,0 +1,112 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Characteristic;
+import com.warhammer.rpg.model.Enemy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.warhammer.rpg.model.Characteristic.*;
+
+/**
+ * Unit tests for EnemyQuery and StatColumns
+ */
+class EnemyQueryTest {
+
+    private List<Enemy> enemies;
+    private EnemyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(5);
+        enemies = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            BasicStatBlock stats = new BasicStatBlock(20 + random.nextInt(50), 20 + random.nextInt(50),
+                2 + random.nextInt(5), 2 + random.nextInt(5), 20 + random.nextInt(50), 20 + random.nextInt(50),
+                20 + random.nextInt(50), 20 + random.nextInt(50), 1 + random.nextInt(3), 5 + random.nextInt(15));
+            enemies.add(new Enemy("enemy-" + i, "Enemy " + i, stats, List.of(), "", 0));
+        }
+        repository = new EnemyRepository(enemies);
+    }
+
+    @Test
+    void testCompoundQueryMatchesScan() {
+        List<Enemy> expected = enemies.stream()
+            .filter(e -> e.stats().weaponSkill() >= 40)
+            .filter(e -> e.stats().toughness() >= 3 && e.stats().toughness() <= 5)
+            .filter(e -> e.stats().wounds() >= 10)
+            .sorted(Comparator.comparingInt(e -> e.stats().agility()))
+            .toList();
+
+        List<Enemy> actual = repository.query()
+            .atLeast(WEAPON_SKILL, 40)
+            .between(TOUGHNESS, 3, 5)
+            .atLeast(WOUNDS, 10)
+            .sortedBy(AGILITY)
+            .list();
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testSelectiveQueryKeepsLoadOrder() {
+        List<Enemy> expected = enemies.stream()
+            .filter(e -> e.stats().strength() == 6 && e.stats().attacks() == 3 && e.stats().fellowship() < 30)
+            .toList();
+
+        List<Enemy> actual = repository.query()
+            .between(STRENGTH, 6, 6)
+            .atLeast(ATTACKS, 3)
+            .atMost(FELLOWSHIP, 29)
+            .list();
+
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), repository.query().between(STRENGTH, 6, 6).atLeast(ATTACKS, 3)
+            .atMost(FELLOWSHIP, 29).count());
+    }
+
+    @Test
+    void testSortDescendingWithLimit() {
+        for (Characteristic characteristic : Characteristic.values()) {
+            List<Enemy> expected = enemies.stream()
+                .filter(e -> e.stats().intelligence() > 30)
+                .sorted(Comparator.comparingInt((Enemy e) -> characteristic.of(e.stats())).reversed())
+                .limit(25)
+                .toList();
+
+            List<Enemy> actual = repository.query()
+                .atLeast(INTELLIGENCE, 31)
+                .sortedByDescending(characteristic)
+                .limit(25)
+                .list();
+
+            assertEquals(expected, actual, characteristic.name());
+        }
+    }
+
+    @Test
+    void testRepeatedConditionsIntersect() {
+        int count = repository.query().atLeast(WEAPON_SKILL, 30).atMost(WEAPON_SKILL, 35).count();
+        assertEquals(enemies.stream().filter(e -> e.stats().weaponSkill() >= 30 && e.stats().weaponSkill() <= 35)
+            .count(), count);
+        assertEquals(count, repository.getStatColumns().countInRange(WEAPON_SKILL, 30, 35));
+
+        assertTrue(repository.query().between(WEAPON_SKILL, 50, 40).list().isEmpty());
+        assertEquals(enemies, repository.query().list());
+        assertThrows(IllegalArgumentException.class, () -> repository.query().limit(-1));
+    }
+
+    @Test
+    void testMinimumWeaponSkillUsesQuery() {
+        assertEquals(enemies.stream().filter(e -> e.stats().weaponSkill() >= 55).toList(),
+            repository.findByMinimumWeaponSkill(55));
+        assertEquals(enemies.get(7).stats().wounds(), repository.getStatColumns().value(WOUNDS, 7));
+    }
+}
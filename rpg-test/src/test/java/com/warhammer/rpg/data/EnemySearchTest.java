@@ -0,0 +1,97 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Ability;
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Enemy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * Unit tests for EnemySearch
+ */
+class EnemySearchTest {
+
+    private List<Enemy> enemies;
+    private EnemyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        String[] kinds = {"Goblin", "Orc Boy", "Night Goblin", "Troll", "Beastman"};
+        Random random = new Random(9);
+        enemies = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            BasicStatBlock stats = new BasicStatBlock(20 + random.nextInt(30), 20, 3, 2 + random.nextInt(4),
+                30, 20, 20, 20, 1, 5 + random.nextInt(10));
+            List<Ability> abilities = random.nextBoolean() ? List.of(new Ability("Fear", "")) : List.of();
+            enemies.add(new Enemy("enemy-" + i, kinds[i % kinds.length] + " " + i, stats, abilities, "", 0));
+        }
+        repository = new EnemyRepository(enemies);
+    }
+
+    @Test
+    void testBlankTextMatchesEverything() {
+        EnemySearch search = repository.search();
+        assertEquals(enemies.size(), search.matches("").cardinality());
+        assertEquals(enemies.size(), search.matches("   ").cardinality());
+        assertEquals(enemies.size(), search.matches(null).cardinality());
+        assertSame(repository.getAllEnemies(), search.enemies());
+    }
+
+    @Test
+    void testNameAndAbilityTerms() {
+        EnemySearch search = repository.search();
+        assertEquals(expected(enemy -> enemy.name().toLowerCase().contains("goblin")), search.find("GOBLIN"));
+        assertEquals(expected(enemy -> enemy.hasAbility("Fear")), search.find("fear"));
+        assertEquals(expected(enemy -> enemy.name().startsWith("Night") && enemy.hasAbility("Fear")),
+            search.find("night fear"));
+        assertTrue(search.find("dragon").isEmpty());
+    }
+
+    @Test
+    void testNameTermsMatchWordPrefixes() {
+        EnemySearch search = repository.search();
+        assertEquals(expected(enemy -> enemy.name().contains("Goblin")), search.find("gob"));
+        assertEquals(expected(enemy -> enemy.name().startsWith("Orc Boy")), search.find("boy"));
+        assertEquals(expected(enemy -> enemy.name().startsWith("Night Goblin")), search.find("night-gob"));
+        assertEquals(List.of(enemies.get(42), enemies.get(422), enemies.get(427)), search.find("night 42"));
+        // Only word starts match, not fragments inside a word
+        assertTrue(search.find("blin").isEmpty());
+    }
+
+    @Test
+    void testCharacteristicConditions() {
+        EnemySearch search = repository.search();
+        assertEquals(expected(enemy -> enemy.stats().weaponSkill() >= 40), search.find("ws>=40"));
+        assertEquals(expected(enemy -> enemy.stats().toughness() < 4), search.find("t<4"));
+        assertEquals(expected(enemy -> enemy.stats().wounds() == 10), search.find("W=10"));
+        assertEquals(expected(enemy -> enemy.stats().weaponSkill() > 45 && enemy.name().contains("Troll")),
+            search.find("troll ws>45"));
+    }
+
+    @Test
+    void testMatchesAreLoadPositions() {
+        BitSet matches = repository.search().matches("orc t<=3");
+        for (int row = 0; row < enemies.size(); row++) {
+            Enemy enemy = enemies.get(row);
+            assertEquals(enemy.name().startsWith("Orc") && enemy.stats().toughness() <= 3, matches.get(row));
+        }
+    }
+
+    @Test
+    void testEmptyRepository() {
+        EnemySearch search = new EnemyRepository(List.of()).search();
+        assertEquals(List.of(), search.find("troll ws>30"));
+        assertTrue(search.matches("").isEmpty());
+    }
+
+    private List<Enemy> expected(Predicate<Enemy> predicate) {
+        return enemies.stream().filter(predicate).toList();
+    }
+}
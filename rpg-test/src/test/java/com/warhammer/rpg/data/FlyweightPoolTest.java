@@ -0,0 +1,78 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Ability;
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.PackedStatBlock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for FlyweightPool
+ */
+class FlyweightPoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEqualValuesShareOneInstance() {
+        FlyweightPool pool = new FlyweightPool();
+        Enemy first = enemy("a", new String("Spear"));
+        Enemy second = enemy("b", new String("Spear"));
+
+        Enemy pooledFirst = pool.enemy(first);
+        Enemy pooledSecond = pool.enemy(second);
+
+        assertEquals(first, pooledFirst);
+        assertEquals(second, pooledSecond);
+        assertSame(pooledFirst.stats(), pooledSecond.stats());
+        assertInstanceOf(PackedStatBlock.class, pooledFirst.stats());
+        assertSame(pooledFirst.abilities(), pooledSecond.abilities());
+        assertSame(pooledFirst.weaponName(), pooledSecond.weaponName());
+        assertThrows(UnsupportedOperationException.class, () -> pooledFirst.abilities().clear());
+    }
+
+    @Test
+    void testAbilitiesArePooledAcrossDifferentLists() {
+        FlyweightPool pool = new FlyweightPool();
+        List<Ability> one = pool.abilities(List.of(new Ability("Fear", "Causes fear")));
+        List<Ability> two = pool.abilities(new ArrayList<>(List.of(
+            new Ability("Frenzy", ""), new Ability(new String("Fear"), new String("Causes fear")))));
+
+        assertSame(one.get(0), two.get(1));
+        assertSame(pool.abilities(List.of()), pool.abilities(new ArrayList<>()));
+        assertTrue(pool.abilities(List.of()).isEmpty());
+    }
+
+    @Test
+    void testDefeatedEnemiesStayDefeated() {
+        Enemy defeated = enemy("a", "Spear").withCurrentWounds(0);
+        assertEquals(0, new FlyweightPool().enemy(defeated).currentWounds());
+    }
+
+    @Test
+    void testLoadedEnemiesShareAbilities() throws Exception {
+        String entry = "{\"id\": \"%s\", \"name\": \"Goblin\", \"stats\": {\"weaponSkill\": 25, \"wounds\": 8}, "
+            + "\"abilities\": [{\"name\": \"Cowardly\", \"description\": \"Flees easily\"}], \"weaponName\": \"Spear\"}";
+        Path file = Files.writeString(tempDir.resolve("goblins.json"),
+            "[" + entry.formatted("g1") + "," + entry.formatted("g2") + "]");
+
+        List<Enemy> goblins = new EnemyRepository(file).getAllEnemies();
+
+        assertSame(goblins.get(0).abilities(), goblins.get(1).abilities());
+        assertSame(goblins.get(0).stats(), goblins.get(1).stats());
+        assertSame(goblins.get(0).weaponName(), goblins.get(1).weaponName());
+    }
+
+    private Enemy enemy(String id, String weaponName) {
+        return new Enemy(id, "Goblin", new BasicStatBlock(25, 25, 3, 3, 30, 25, 25, 20, 1, 8),
+            new ArrayList<>(List.of(new Ability("Cowardly", "Flees easily"))), weaponName, 8);
+    }
+}
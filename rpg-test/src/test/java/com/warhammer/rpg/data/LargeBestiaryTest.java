@@ -0,0 +1,133 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Characteristic;
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.WeaponTrait;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loads generated bestiaries far larger than the bundled data and checks load
+ * time and retained heap against generous ceilings. Slow and sensitive to a
+ * loaded machine, so not part of the default build; run with
+ * mvn test -Plarge-data. The size can be raised with
+ * -Dwarhammer.largeData.enemies=10000000 (and a matching -Xmx); the ceilings
+ * scale with it.
+ */
+@Tag("large-data")
+class LargeBestiaryTest {
+
+    private static final int ENEMIES = Integer.getInteger("warhammer.largeData.enemies", 200_000);
+    private static final int WEAPONS = Integer.getInteger("warhammer.largeData.weapons", 2_000);
+
+    /** Per entry; a loaded enemy shares its stat block, abilities and strings with many others */
+    private static final long LOAD_NANOS_PER_ENEMY = 50_000;
+    private static final long HEAP_BYTES_PER_ENEMY = 768;
+
+    @TempDir
+    static Path tempDir;
+
+    private static Path enemyFile;
+    private static Path weaponFile;
+
+    @BeforeAll
+    static void generate() throws Exception {
+        enemyFile = tempDir.resolve("enemies.json");
+        weaponFile = tempDir.resolve("weapons.json");
+        BestiaryGenerator generator = new BestiaryGenerator(1234);
+        generator.writeWeapons(weaponFile, WEAPONS);
+        generator.writeEnemies(enemyFile, ENEMIES, WEAPONS);
+    }
+
+    @Test
+    void testGeneratorIsDeterministic() throws Exception {
+        assertArrayEquals(enemies(new BestiaryGenerator(7), 1_000), enemies(new BestiaryGenerator(7), 1_000));
+        assertFalse(Arrays.equals(enemies(new BestiaryGenerator(7), 1_000),
+            enemies(new BestiaryGenerator(8), 1_000)));
+    }
+
+    @Test
+    void testLoadTimeAndHeapStayUnderCeilings() {
+        // Retained heap is measured after System.gc()
+        assumeFalse(ManagementFactory.getRuntimeMXBean().getInputArguments().contains("-XX:+DisableExplicitGC"));
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long heapBefore = usedHeap(memory);
+        long start = System.nanoTime();
+        EnemyRepository repository = new EnemyRepository(enemyFile);
+        long loadNanos = System.nanoTime() - start;
+        long retained = usedHeap(memory) - heapBefore;
+
+        assertEquals(ENEMIES, repository.getEnemyCount());
+        assertTrue(repository.getLoadDiagnostics().isEmpty(), () -> repository.getLoadDiagnostics().toString());
+        assertTrue(loadNanos < ENEMIES * LOAD_NANOS_PER_ENEMY,
+            () -> "Loading " + ENEMIES + " enemies took " + loadNanos / 1_000_000 + " ms");
+        assertTrue(retained < ENEMIES * HEAP_BYTES_PER_ENEMY,
+            () -> "Loaded bestiary retains " + retained / ENEMIES + " bytes per enemy");
+        // Keep the repository reachable until the heap was measured
+        assertNotNull(repository.findById("goblin-1").or(() -> repository.getAllEnemies().stream().findFirst()));
+    }
+
+    @Test
+    void testGeneratedFilesLinkAndQueryAtScale() {
+        EnemyRepository enemies = new EnemyRepository(enemyFile);
+        WeaponRepository weapons = new WeaponRepository(weaponFile);
+        assertEquals(WEAPONS, weapons.getWeaponCount());
+        assertTrue(weapons.getLoadDiagnostics().isEmpty());
+
+        // Only the unarmed archetypes are reported, no weapon name is unknown
+        CombatantRoster roster = CombatantRoster.link(enemies, weapons);
+        long armed = enemies.getAllEnemies().stream().filter(enemy -> !enemy.weaponName().isEmpty()).count();
+        assertEquals(armed, roster.getCombatantCount());
+        assertEquals(ENEMIES - armed, roster.getDiagnostics().size());
+        assertTrue(roster.getDiagnostics().stream().allMatch(problem -> problem.message().endsWith("has no weapon")));
+        assertTrue(weapons.getAllWeapons().stream().anyMatch(weapon -> weapon.hasTrait(WeaponTrait.IMPACT)));
+
+        List<Enemy> all = enemies.getAllEnemies();
+        assertEquals(all.stream().filter(enemy -> enemy.stats().weaponSkill() >= 40 && enemy.hasAbility("Fear")).count(),
+            enemies.search().find("ws>=40 fear").size());
+        double meanToughness = all.stream().mapToInt(enemy -> enemy.stats().toughness()).average().orElseThrow();
+        assertEquals(meanToughness, enemies.getStatColumns().scan().mean(Characteristic.TOUGHNESS), 1e-9);
+    }
+
+    @Test
+    void testDistributionsAreRealistic() {
+        List<Enemy> all = new EnemyRepository(enemyFile).getAllEnemies();
+        long goblins = all.stream().filter(enemy -> enemy.id().startsWith("goblin-")).count();
+        long wyverns = all.stream().filter(enemy -> enemy.id().startsWith("wyvern-")).count();
+        // Archetype weights 20 and 1 out of 104
+        assertEquals(20.0 / 104, (double) goblins / all.size(), 0.02);
+        assertEquals(1.0 / 104, (double) wyverns / all.size(), 0.005);
+        for (Enemy enemy : all) {
+            int weaponSkill = enemy.stats().weaponSkill();
+            assertTrue(weaponSkill >= 1 && weaponSkill <= 99, enemy::toString);
+            assertTrue(enemy.stats().wounds() >= 1, enemy::toString);
+        }
+        long withExtras = all.stream().filter(enemy -> enemy.hasAbility("Keen Senses")).count();
+        long withRareExtras = all.stream().filter(enemy -> enemy.hasAbility("Ambidextrous")).count();
+        assertTrue(withExtras > withRareExtras, "Common abilities should be picked more often");
+    }
+
+    private static byte[] enemies(BestiaryGenerator generator, int count) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generator.writeEnemies(out, count, 100);
+        return out.toByteArray();
+    }
+
+    private static long usedHeap(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -1,5 +1,8 @@
 package com.warhammer.rpg.data;
 
+import com.warhammer.rpg.model.Ability;
+import com.warhammer.rpg.model.AbilityRegistry;
+import com.warhammer.rpg.model.BasicStatBlock;
 import com.warhammer.rpg.model.Enemy;
 import com.warhammer.rpg.model.Weapon;
 import org.junit.jupiter.api.Test;
@@ -8,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Integration tests for data repositories
@@ -51,6 +55,18 @@ class RepositoryTest {
         assertTrue(weapons.stream().anyMatch(w -> w.name().equals("Crossbow")));
     }
 
+    @Test
+    void testBootstrapLoadsBothRepositories() throws Exception {
+        RepositoryBootstrap bootstrap = RepositoryBootstrap.start();
+        bootstrap.all().get(30, TimeUnit.SECONDS);
+
+        assertEquals(enemyRepository.getEnemyCount(), bootstrap.enemies().get().getEnemyCount());
+        assertEquals(weaponRepository.getWeaponCount(), bootstrap.weapons().get().getWeaponCount());
+        assertSame(JsonSupport.sharedMapper(), JsonSupport.sharedMapper());
+        // Warming up the mapper must not leave a fake ability behind
+        assertEquals(AbilityRegistry.UNKNOWN, AbilityRegistry.lookup("Warm Up"));
+    }
+
     @Test
     void testFindEnemyById() {
         Optional<Enemy> goblin = enemyRepository.findById("goblin");
@@ -80,6 +96,29 @@ class RepositoryTest {
         assertTrue(orcLowerCase.isPresent());
     }
 
+    @Test
+    void testFindByNameIgnoresCaseAndNull() {
+        assertEquals("skaven-clanrat", enemyRepository.findByName("SKAVEN clanrat").orElseThrow().id());
+        assertTrue(enemyRepository.findByName(null).isEmpty());
+        assertTrue(enemyRepository.findById(null).isEmpty());
+        assertTrue(weaponRepository.findByName("no such weapon").isEmpty());
+    }
+
+    @Test
+    void testLookupsOnProvidedListKeepFirstMatch() {
+        BasicStatBlock stats = new BasicStatBlock(30, 30, 3, 3, 30, 30, 30, 30, 1, 8);
+        Enemy first = new Enemy("rat", "Giant Rat", stats, List.of(), "Teeth", 8);
+        Enemy duplicate = new Enemy("rat", "giant rat", stats, List.of(), "Claws", 8);
+        EnemyRepository repository = new EnemyRepository(List.of(first, duplicate));
+
+        assertSame(first, repository.findById("rat").orElseThrow());
+        assertSame(first, repository.findByName("GIANT RAT").orElseThrow());
+        assertEquals(2, repository.getEnemyCount());
+
+        WeaponRepository weapons = new WeaponRepository(List.of(new Weapon("teeth", "Teeth", 0, "natural")));
+        assertEquals("teeth", weapons.findByName("teeth").orElseThrow().id());
+    }
+
     @Test
     void testFindWeaponById() {
         Optional<Weapon> sword = weaponRepository.findById("short-sword");
@@ -110,6 +149,45 @@ class RepositoryTest {
             assertTrue(weapon.hasTrait("one-handed")));
     }
 
+    @Test
+    void testFindWeaponsByTraitMatchesWholeTokens() {
+        assertTrue(weaponRepository.findByTrait("hand").isEmpty());
+        assertEquals(weaponRepository.findByTrait("two-handed"), weaponRepository.findByTrait(" TWO-HANDED "));
+        weaponRepository.findByTrait("two-handed").forEach(weapon ->
+            assertFalse(weapon.hasTrait("one-handed")));
+    }
+
+    @Test
+    void testFindWeaponsByTraitQueries() {
+        List<Weapon> rangedTwoHanded = weaponRepository.findByAllTraits(List.of("ranged", "two-handed"));
+        assertEquals(List.of("bow"), rangedTwoHanded.stream().map(Weapon::id).toList());
+
+        List<Weapon> rangedOrReach = weaponRepository.findByAnyTrait(List.of("ranged", "reach"));
+        assertEquals(weaponRepository.findByTrait("ranged").size() + weaponRepository.findByTrait("reach").size(),
+            rangedOrReach.size());
+
+        assertEquals(weaponRepository.getWeaponCount(), weaponRepository.findByAllTraits(List.of()).size());
+        assertTrue(weaponRepository.findByAnyTrait(List.of()).isEmpty());
+        assertTrue(weaponRepository.findByAllTraits(List.of("ranged", "unknown")).isEmpty());
+    }
+
+    @Test
+    void testFindEnemiesByAbilityQueries() {
+        Ability fear = new Ability("Fear", "");
+        Ability frenzy = new Ability("Frenzy", "");
+        BasicStatBlock stats = new BasicStatBlock(30, 30, 3, 3, 30, 30, 30, 30, 1, 8);
+        EnemyRepository repository = new EnemyRepository(List.of(
+            new Enemy("a", "A", stats, List.of(fear), "", 8),
+            new Enemy("b", "B", stats, List.of(fear, frenzy), "", 8),
+            new Enemy("c", "C", stats, List.of(frenzy), "", 8),
+            new Enemy("d", "D", stats, List.of(), "", 8)));
+
+        assertEquals(List.of("a", "b"), ids(repository.findByAbility("fear")));
+        assertEquals(List.of("b"), ids(repository.findByAllAbilities(List.of("Fear", "FRENZY"))));
+        assertEquals(List.of("a", "b", "c"), ids(repository.findByAnyAbility(List.of("Frenzy", "Fear"))));
+        assertTrue(repository.findByAbility("Hatred").isEmpty());
+    }
+
     @Test
     void testFindEnemiesByAbility() {
         List<Enemy> cowardlyEnemies = enemyRepository.findByAbility("Cowardly");
@@ -176,4 +254,8 @@ class RepositoryTest {
             assertNotNull(weapon.traits());
         });
     }
+
+    private List<String> ids(List<Enemy> enemies) {
+        return enemies.stream().map(Enemy::id).toList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Enemy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static com.warhammer.rpg.model.Characteristic.*;
+
+/**
+ * Unit tests for StatScan and the column kernels, checked against plain loops
+ */
+class StatScanTest {
+
+    private List<Enemy> enemies;
+    private StatColumns columns;
+
+    @BeforeEach
+    void setUp() {
+        SplittableRandom random = new SplittableRandom(19);
+        enemies = new ArrayList<>();
+        // Not a multiple of 64 so the last mask word is partial
+        for (int i = 0; i < 5_003; i++) {
+            BasicStatBlock stats = new BasicStatBlock(random.nextInt(20, 70), random.nextInt(20, 70),
+                random.nextInt(2, 7), random.nextInt(2, 7), random.nextInt(20, 70), 30, 30, 30,
+                random.nextInt(1, 4), random.nextInt(5, 30));
+            enemies.add(new Enemy("enemy-" + i, "Enemy " + i, stats, List.of(), i % 3 == 0 ? "Spear" : "Sword", 0));
+        }
+        columns = StatColumns.build(enemies);
+    }
+
+    @Test
+    void testAggregatesOverAllRows() {
+        StatScan scan = columns.scan();
+        long sum = enemies.stream().mapToLong(e -> e.stats().weaponSkill()).sum();
+
+        assertEquals(enemies.size(), scan.count());
+        assertEquals(sum, scan.sum(WEAPON_SKILL));
+        assertEquals((double) sum / enemies.size(), scan.mean(WEAPON_SKILL), 1e-9);
+        assertEquals(enemies.stream().mapToInt(e -> e.stats().toughness()).min().orElseThrow(), scan.min(TOUGHNESS));
+        assertEquals(enemies.stream().mapToInt(e -> e.stats().toughness()).max().orElseThrow(), scan.max(TOUGHNESS));
+
+        StatScan.Histogram histogram = scan.histogram(WEAPON_SKILL);
+        assertEquals(enemies.size(), histogram.total());
+        assertEquals(enemies.stream().filter(e -> e.stats().weaponSkill() == 42).count(), histogram.count(42));
+        assertEquals(0, histogram.count(1000));
+    }
+
+    @Test
+    void testFilteredAggregatesMatchStreams() {
+        for (ColumnKernels kernels : List.of(ColumnKernels.scalar(), ColumnKernels.instance())) {
+            StatScan scan = new StatScan(columns, kernels).between(TOUGHNESS, 3, 5).atLeast(WEAPON_SKILL, 40);
+            List<Enemy> expected = enemies.stream()
+                .filter(e -> e.stats().toughness() >= 3 && e.stats().toughness() <= 5)
+                .filter(e -> e.stats().weaponSkill() >= 40)
+                .toList();
+
+            assertEquals(expected.size(), scan.count(), kernels.name());
+            assertEquals(expected.stream().mapToLong(e -> e.stats().wounds()).sum(), scan.sum(WOUNDS), kernels.name());
+            assertEquals(expected.stream().mapToInt(e -> e.stats().agility()).min().orElseThrow(), scan.min(AGILITY));
+            assertEquals(expected.stream().mapToInt(e -> e.stats().agility()).max().orElseThrow(), scan.max(AGILITY));
+            assertEquals(expected.size(), scan.histogram(ATTACKS).total());
+        }
+    }
+
+    @Test
+    void testEmptySelection() {
+        StatScan scan = columns.scan().atLeast(WEAPON_SKILL, 1000);
+        assertEquals(0, scan.count());
+        assertEquals(0, scan.sum(WEAPON_SKILL));
+        assertTrue(Double.isNaN(scan.mean(WEAPON_SKILL)));
+        assertThrows(IllegalStateException.class, () -> scan.min(WEAPON_SKILL));
+        assertThrows(IllegalStateException.class, () -> StatColumns.build(List.of()).scan().max(WOUNDS));
+    }
+
+    @Test
+    void testKernelsAgreeOnLargeValues() {
+        SplittableRandom random = new SplittableRandom(7);
+        int[] column = new int[10_000];
+        for (int i = 0; i < column.length; i++) {
+            column[i] = random.nextInt(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        long expected = Arrays.stream(column).asLongStream().sum();
+        for (ColumnKernels kernels : List.of(ColumnKernels.scalar(), ColumnKernels.instance())) {
+            assertEquals(expected, kernels.sum(column, 0, column.length, Integer.MIN_VALUE, Integer.MAX_VALUE),
+                kernels.name());
+            assertEquals(column[5] + (long) column[6], kernels.sum(column, 5, 7, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void testAverageByGroup() {
+        EnemyRepository repository = new EnemyRepository(enemies);
+        Map<String, Double> byWeapon = repository.averageBy(TOUGHNESS, Enemy::weaponName);
+
+        assertEquals(List.of("Spear", "Sword"), List.copyOf(byWeapon.keySet()));
+        double spear = enemies.stream().filter(e -> e.weaponName().equals("Spear"))
+            .mapToInt(e -> e.stats().toughness()).average().orElseThrow();
+        assertEquals(spear, byWeapon.get("Spear"), 1e-9);
+
+        double[] filtered = columns.scan().atLeast(WOUNDS, 100).meanBy(TOUGHNESS, new int[enemies.size()], 2);
+        assertTrue(Double.isNaN(filtered[0]));
+    }
+}
@@ -0,0 +1,109 @@
+package com.warhammer.rpg.data;
+
+import com.warhammer.rpg.model.Enemy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests for streaming repository loading from files
+ */
+class StreamingLoadTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testLoadsEnemiesFromFile() throws Exception {
+        Path file = write("enemies.json", "[" + enemy("rat", "Giant Rat") + ",\n" + enemy("bat", "Bat") + "]");
+
+        EnemyRepository repository = new EnemyRepository(file);
+
+        assertEquals(2, repository.getEnemyCount());
+        assertEquals("Bat", repository.findById("bat").orElseThrow().name());
+        assertTrue(repository.getLoadDiagnostics().isEmpty());
+    }
+
+    @Test
+    void testInvalidEntriesAreSkippedWithLocation() throws Exception {
+        Path file = write("enemies.json", String.join("\n",
+            "[",
+            enemy("rat", "Giant Rat") + ",",
+            "  {\"id\": \"\", \"name\": \"No Id\"},",
+            "  {\"id\": \"wolf\", \"name\": \"Wolf\", \"stats\": \"strong\"},",
+            enemy("bat", "Bat"),
+            "]"));
+
+        EnemyRepository repository = new EnemyRepository(file);
+
+        assertEquals(List.of("rat", "bat"), repository.getAllEnemies().stream().map(Enemy::id).toList());
+        List<LoadDiagnostic> diagnostics = repository.getLoadDiagnostics();
+        assertEquals(2, diagnostics.size());
+        assertEquals(3, diagnostics.get(0).line());
+        assertEquals(3, diagnostics.get(0).column());
+        assertTrue(diagnostics.get(0).message().contains("Enemy ID cannot be null or empty"));
+        assertEquals(4, diagnostics.get(1).line());
+        assertEquals(file.toString(), diagnostics.get(1).source());
+    }
+
+    @Test
+    void testMalformedJsonKeepsEntriesReadSoFar() throws Exception {
+        Path file = write("weapons.json", String.join("\n",
+            "[",
+            "  {\"id\": \"club\", \"name\": \"Club\", \"damage\": 0, \"traits\": \"crude\"},",
+            "  {\"id\": \"axe\", \"name\": \"Axe\", \"damage\": 2,,",
+            "  {\"id\": \"bow\", \"name\": \"Bow\", \"damage\": 1}",
+            "]"));
+
+        WeaponRepository repository = new WeaponRepository(file);
+
+        assertEquals(1, repository.getWeaponCount());
+        assertEquals(1, repository.getLoadDiagnostics().size());
+        assertEquals(3, repository.getLoadDiagnostics().get(0).line());
+        assertTrue(repository.getLoadDiagnostics().get(0).message().startsWith("Malformed JSON"));
+    }
+
+    @Test
+    void testNonArrayDocumentIsReported() throws Exception {
+        WeaponRepository repository = new WeaponRepository(write("weapons.json", "{\"id\": \"club\"}"));
+
+        assertEquals(0, repository.getWeaponCount());
+        assertEquals("Expected a JSON array", repository.getLoadDiagnostics().get(0).message());
+    }
+
+    @Test
+    void testWrittenJsonReadsBack() throws Exception {
+        Path enemies = tempDir.resolve("enemies-out.json");
+        Path weapons = tempDir.resolve("weapons-out.json");
+        JsonSupport.sharedMapper().writeValue(enemies.toFile(), new EnemyRepository().getAllEnemies());
+        JsonSupport.sharedMapper().writeValue(weapons.toFile(), new WeaponRepository().getAllWeapons());
+
+        EnemyRepository enemyRepository = new EnemyRepository(enemies);
+        WeaponRepository weaponRepository = new WeaponRepository(weapons);
+
+        assertEquals(List.of(), enemyRepository.getLoadDiagnostics());
+        assertEquals(List.of(), weaponRepository.getLoadDiagnostics());
+        assertEquals(new EnemyRepository().getAllEnemies(), enemyRepository.getAllEnemies());
+        assertEquals(new WeaponRepository().getAllWeapons(), weaponRepository.getAllWeapons());
+    }
+
+    @Test
+    void testBundledDataLoadsWithoutDiagnostics() {
+        assertTrue(new EnemyRepository().getLoadDiagnostics().isEmpty());
+        assertTrue(new WeaponRepository().getLoadDiagnostics().isEmpty());
+    }
+
+    private Path write(String name, String content) throws Exception {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+
+    private String enemy(String id, String name) {
+        return "  {\"id\": \"" + id + "\", \"name\": \"" + name + "\", \"stats\": {\"weaponSkill\": 25, "
+            + "\"ballisticSkill\": 0, \"strength\": 2, \"toughness\": 2, \"agility\": 30, \"intelligence\": 10, "
+            + "\"willPower\": 10, \"fellowship\": 0, \"attacks\": 1, \"wounds\": 5}, \"weaponName\": \"Teeth\"}";
+    }
+}
@@ -0,0 +1,116 @@
+package com.warhammer.rpg.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CombatLogTest {
+
+    @Test
+    void testDrainPublishesAppendedLinesInOrder() {
+        CombatLog log = new CombatLog(10);
+        log.append("first");
+        log.append("second");
+        assertEquals(0, log.size());
+        assertEquals(2, log.pending());
+
+        CombatLog.Batch batch = log.drain();
+        assertEquals(2, batch.added());
+        assertTrue(batch.removed().isEmpty());
+        assertEquals(2, log.size());
+        assertEquals("first", log.get(0));
+        assertEquals("second", log.get(1));
+        assertSame(CombatLog.Batch.EMPTY, log.drain());
+    }
+
+    @Test
+    void testFullLogEvictsOldestLines() {
+        CombatLog log = new CombatLog(3);
+        for (int i = 0; i < 3; i++) {
+            log.append("line " + i);
+        }
+        log.drain();
+        log.append("line 3");
+        log.append("line 4");
+
+        CombatLog.Batch batch = log.drain();
+        assertEquals(List.of("line 0", "line 1"), batch.removed());
+        assertEquals(2, batch.added());
+        assertEquals(3, log.size());
+        assertEquals("line 2", log.get(0));
+        assertEquals("line 4", log.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> log.get(3));
+    }
+
+    @Test
+    void testBurstLargerThanCapacityKeepsNewestLines() {
+        CombatLog log = new CombatLog(4);
+        log.append("old 0");
+        log.append("old 1");
+        log.drain();
+        for (int i = 0; i < 100; i++) {
+            log.append("new " + i);
+        }
+        assertTrue(log.pending() <= 4);
+
+        CombatLog.Batch batch = log.drain();
+        assertEquals(List.of("old 0", "old 1"), batch.removed());
+        assertEquals(4, batch.added());
+        assertEquals(List.of("new 96", "new 97", "new 98", "new 99"), lines(log));
+    }
+
+    @Test
+    void testConcurrentAppendsAreAllDrained() throws InterruptedException {
+        int threads = 4;
+        int perThread = 5_000;
+        CombatLog log = new CombatLog(threads * perThread);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int writer = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < perThread; i++) {
+                    log.append(writer + ":" + i);
+                }
+            });
+            thread.start();
+            writers.add(thread);
+        }
+        start.countDown();
+        int drained = 0;
+        while (writers.stream().anyMatch(Thread::isAlive)) {
+            drained += log.drain().added();
+        }
+        for (Thread thread : writers) {
+            thread.join();
+        }
+        drained += log.drain().added();
+
+        assertEquals(threads * perThread, drained);
+        assertEquals(threads * perThread, log.size());
+        assertEquals(0, log.pending());
+    }
+
+    @Test
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CombatLog(0));
+        assertThrows(IllegalArgumentException.class, () -> new CombatLog(1).append(null));
+    }
+
+    private static List<String> lines(CombatLog log) {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < log.size(); i++) {
+            lines.add(log.get(i));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,98 @@
+package com.warhammer.rpg.logic;
+
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Enemy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Unit tests for CombatantStore
+ */
+class CombatantStoreTest {
+
+    private CombatantStore store;
+    private Enemy orc;
+
+    @BeforeEach
+    void setUp() {
+        store = new CombatantStore(2);
+        orc = new Enemy("orc", "Orc", new BasicStatBlock(35, 25, 3, 4, 30, 25, 30, 25, 1, 12), List.of(), "Choppa", 12);
+    }
+
+    @Test
+    void testDamageAndHeal() {
+        int slot = store.spawn(orc);
+
+        assertEquals(8, store.applyDamage(slot, 4));
+        assertEquals(12, store.heal(slot, 20));
+        assertEquals(0, store.applyDamage(slot, 50));
+        assertFalse(store.isAlive(slot));
+        assertEquals(12, store.getMaxWounds(slot));
+        assertEquals(12, orc.currentWounds());
+    }
+
+    @Test
+    void testInstancesAreIndependent() {
+        int first = store.spawn(orc);
+        int second = store.spawn(orc);
+        int third = store.spawn(orc);
+
+        store.applyDamage(second, 5);
+        assertEquals(12, store.getCurrentWounds(first));
+        assertEquals(7, store.getCurrentWounds(second));
+        assertEquals(12, store.getCurrentWounds(third));
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    void testConditions() {
+        int slot = store.spawn(orc);
+        store.addCondition(slot, Condition.PRONE);
+        store.addCondition(slot, Condition.BLEEDING);
+
+        assertTrue(store.hasCondition(slot, Condition.PRONE));
+        assertFalse(store.hasCondition(slot, Condition.STUNNED));
+        assertEquals(Condition.PRONE.mask() | Condition.BLEEDING.mask(), store.getConditionMask(slot));
+
+        store.removeCondition(slot, Condition.PRONE);
+        assertFalse(store.hasCondition(slot, Condition.PRONE));
+
+        store.applyDamage(slot, 3);
+        store.restore(slot);
+        assertEquals(12, store.getCurrentWounds(slot));
+        assertEquals(0, store.getConditionMask(slot));
+    }
+
+    @Test
+    void testReleasedSlotsAreReused() {
+        int first = store.spawn(orc);
+        int generation = store.generation(first);
+        store.spawn(orc);
+        store.release(first);
+
+        assertEquals(1, store.size());
+        assertThrows(IllegalArgumentException.class, () -> store.getCurrentWounds(first));
+        assertEquals(first, store.spawn(orc));
+        assertNotEquals(generation, store.generation(first));
+        assertThrows(IllegalArgumentException.class, () -> store.checkGeneration(first, generation));
+        store.checkGeneration(first, store.generation(first));
+
+        store.clear();
+        assertTrue(store.isEmpty());
+        assertEquals(0, store.spawn(orc));
+    }
+
+    @Test
+    void testSnapshot() {
+        int slot = store.spawn(orc);
+        assertSame(orc, store.snapshot(slot));
+
+        store.applyDamage(slot, 12);
+        Enemy snapshot = store.snapshot(slot);
+        assertEquals(0, snapshot.currentWounds());
+        assertFalse(snapshot.isAlive());
+    }
+}
@@ -4,6 +4,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Unit tests for DiceRoller
  */
@@ -111,4 +116,126 @@ class DiceRollerTest {
         assertEquals(roller1.rollD10(), roller2.rollD10());
         assertEquals(roller1.rollD6(), roller2.rollD6());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testJdkSourceMatchesLegacySeededRolls() {
+        java.util.Random legacy = new java.util.Random(42);
+        DiceRoller roller = new DiceRoller(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(legacy.nextInt(100) + 1, roller.rollD100());
+        }
+    }
+
+    @Test
+    void testRandomSourcesAreReproducible() {
+        List<java.util.function.LongFunction<RandomSource>> factories = List.of(
+            RandomSource::splittable, RandomSource::l64x128, RandomSource::xoshiro256);
+
+        for (var factory : factories) {
+            DiceRoller roller1 = new DiceRoller(factory.apply(7));
+            DiceRoller roller2 = new DiceRoller(factory.apply(7));
+            for (int i = 0; i < 100; i++) {
+                int roll = roller1.rollD100();
+                assertEquals(roll, roller2.rollD100());
+                assertTrue(roll >= 1 && roll <= 100);
+            }
+        }
+    }
+
+    @Test
+    void testSplitGivesIndependentReproducibleStreams() {
+        List<java.util.function.LongFunction<RandomSource>> factories = List.of(
+            RandomSource::splittable, RandomSource::l64x128, RandomSource::xoshiro256);
+
+        for (var factory : factories) {
+            DiceRoller child1 = new DiceRoller(factory.apply(11)).split();
+            DiceRoller child2 = new DiceRoller(factory.apply(11)).split();
+            DiceRoller parent = new DiceRoller(factory.apply(11));
+            DiceRoller sibling = parent.split();
+
+            int[] first = rollD100s(child1, 50);
+            assertArrayEquals(first, rollD100s(child2, 50));
+            assertFalse(Arrays.equals(first, rollD100s(parent, 50)));
+            assertFalse(Arrays.equals(rollD100s(sibling, 50), rollD100s(parent.split(), 50)));
+        }
+    }
+
+    @Test
+    void testGeneratorSourceRejectsPlainGenerators() {
+        assertThrows(IllegalArgumentException.class, () ->
+            new GeneratorRandomSource(new java.util.Random(1)));
+    }
+
+    @Test
+    void testBulkRollsMatchScalarRolls() {
+        DiceRoller scalar = new DiceRoller(2024);
+        DiceRoller bulk = new DiceRoller(2024);
+
+        int[] d100 = new int[500];
+        bulk.rollD100(d100, 0, d100.length);
+        int[] d10 = new int[500];
+        bulk.rollD10(d10, 0, d10.length);
+        int[] d6 = new int[500];
+        bulk.rollD6(d6, 0, d6.length);
+        int[] threeD6 = new int[500];
+        bulk.rollMultiple(threeD6, 0, threeD6.length, 3, 6);
+
+        for (int i = 0; i < 500; i++) {
+            assertEquals(scalar.rollD100(), d100[i]);
+        }
+        for (int i = 0; i < 500; i++) {
+            assertEquals(scalar.rollD10(), d10[i]);
+        }
+        for (int i = 0; i < 500; i++) {
+            assertEquals(scalar.rollD6(), d6[i]);
+        }
+        for (int i = 0; i < 500; i++) {
+            assertEquals(scalar.rollMultiple(3, 6), threeD6[i]);
+        }
+    }
+
+    @Test
+    void testBulkRollsIntoBuffers() {
+        DiceRoller scalar = new DiceRoller(RandomSource.splittable(5));
+        DiceRoller bulk = new DiceRoller(RandomSource.splittable(5));
+
+        IntBuffer heap = IntBuffer.allocate(64);
+        heap.position(4);
+        bulk.rollD100(heap);
+        assertFalse(heap.hasRemaining());
+
+        IntBuffer direct = ByteBuffer.allocateDirect(64 * Integer.BYTES).asIntBuffer();
+        bulk.rollMultiple(direct, 2, 10);
+        assertFalse(direct.hasRemaining());
+
+        for (int i = 4; i < 64; i++) {
+            assertEquals(scalar.rollD100(), heap.get(i));
+        }
+        for (int i = 0; i < 64; i++) {
+            assertEquals(scalar.rollMultiple(2, 10), direct.get(i));
+        }
+    }
+
+    @Test
+    void testBulkRollsRespectRange() {
+        int[] rolls = new int[10];
+        assertThrows(IndexOutOfBoundsException.class, () -> diceRoller.rollD10(rolls, 5, 10));
+
+        diceRoller.rollD6(rolls, 2, 3);
+        assertEquals(0, rolls[0]);
+        assertEquals(0, rolls[1]);
+        for (int i = 2; i < 5; i++) {
+            assertTrue(rolls[i] >= 1 && rolls[i] <= 6);
+        }
+        assertEquals(0, rolls[5]);
+    }
+
+    private int[] rollD100s(DiceRoller roller, int count) {
+        int[] rolls = new int[count];
+        for (int i = 0; i < count; i++) {
+            rolls[i] = roller.rollD100();
+        }
+        return rolls;
+    }
+}
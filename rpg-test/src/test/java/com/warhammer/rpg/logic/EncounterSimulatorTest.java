@@ -0,0 +1,152 @@
+package com.warhammer.rpg.logic;
+
+import com.warhammer.rpg.model.Ability;
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.ResolvedCombatant;
+import com.warhammer.rpg.model.Weapon;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Unit tests for EncounterSimulator
+ */
+class EncounterSimulatorTest {
+
+    private Enemy goblin;
+    private Enemy orc;
+    private Function<Enemy, Weapon> weapons;
+
+    @BeforeEach
+    void setUp() {
+        goblin = new Enemy("goblin", "Goblin", new BasicStatBlock(25, 25, 3, 3, 30, 20, 20, 20, 1, 5),
+            List.of(new Ability("Cowardly", "")), "Short Sword", 5);
+        orc = new Enemy("orc", "Orc", new BasicStatBlock(35, 25, 4, 4, 25, 20, 30, 20, 1, 11),
+            List.of(), "Hand Weapon", 11);
+        Weapon shortSword = new Weapon("short-sword", "Short Sword", 1, "one-handed");
+        Weapon handWeapon = new Weapon("hand-weapon", "Hand Weapon", 1, "one-handed");
+        weapons = enemy -> enemy.weaponName().equals("Short Sword") ? shortSword : handWeapon;
+    }
+
+    @Test
+    void testOutcomesAddUp() {
+        EncounterSimulator simulator = new EncounterSimulator(42);
+        EncounterSimulator.SimulationResult result = simulator.simulate(
+            Collections.nCopies(6, goblin), Collections.nCopies(2, orc), weapons, 20_000);
+
+        assertEquals(20_000, result.trials());
+        assertEquals(result.trials(), result.winsA() + result.winsB() + result.draws());
+        assertEquals(1.0, result.winRateA() + result.winRateB() + result.drawRate(), 1e-9);
+        assertTrue(result.averageRounds() >= 1);
+
+        assertEquals(6 * 5 + 1, result.woundsRemainingA().length);
+        assertEquals(2 * 11 + 1, result.woundsRemainingB().length);
+        assertEquals(result.trials(), sum(result.woundsRemainingA()));
+        assertEquals(result.trials(), sum(result.woundsRemainingB()));
+
+        // Every win for side B leaves side A with no wounds at all
+        assertTrue(result.woundsRemainingA()[0] >= result.winsB());
+    }
+
+    @Test
+    void testStrongerSideWinsMostly() {
+        Enemy champion = new Enemy("champion", "Champion", new BasicStatBlock(90, 25, 6, 5, 40, 30, 40, 30, 3, 30),
+            List.of(), "Hand Weapon", 30);
+        EncounterSimulator.SimulationResult result = new EncounterSimulator(7)
+            .simulate(List.of(champion), List.of(goblin), weapons, 5_000);
+
+        assertTrue(result.winRateA() > 0.95, "Champion should beat a lone goblin: " + result);
+    }
+
+    @Test
+    void testReproducibleAcrossPools() {
+        List<Enemy> sideA = Collections.nCopies(6, goblin);
+        List<Enemy> sideB = Collections.nCopies(2, orc);
+
+        EncounterSimulator.SimulationResult single = new EncounterSimulator(new ForkJoinPool(1), 99, 100)
+            .simulate(sideA, sideB, weapons, 10_000);
+        EncounterSimulator.SimulationResult parallel = new EncounterSimulator(new ForkJoinPool(4), 99, 100)
+            .simulate(sideA, sideB, weapons, 10_000);
+
+        assertEquals(single.winsA(), parallel.winsA());
+        assertEquals(single.winsB(), parallel.winsB());
+        assertEquals(single.totalRounds(), parallel.totalRounds());
+        assertArrayEquals(single.woundsRemainingA(), parallel.woundsRemainingA());
+    }
+
+    @Test
+    void testLinkedCombatantsMatchWeaponLookup() {
+        List<ResolvedCombatant> sideA = Collections.nCopies(6, new ResolvedCombatant(goblin, weapons.apply(goblin)));
+        List<ResolvedCombatant> sideB = Collections.nCopies(2, new ResolvedCombatant(orc, weapons.apply(orc)));
+
+        EncounterSimulator.SimulationResult linked = new EncounterSimulator(new ForkJoinPool(1), 5, 100)
+            .simulate(sideA, sideB, 5_000);
+        EncounterSimulator.SimulationResult lookedUp = new EncounterSimulator(new ForkJoinPool(1), 5, 100)
+            .simulate(Collections.nCopies(6, goblin), Collections.nCopies(2, orc), weapons, 5_000);
+
+        assertEquals(lookedUp.winsA(), linked.winsA());
+        assertEquals(lookedUp.totalRounds(), linked.totalRounds());
+        assertArrayEquals(lookedUp.woundsRemainingB(), linked.woundsRemainingB());
+    }
+
+    @Test
+    void testDrawWhenNobodyCanHit() {
+        Enemy pacifist = new Enemy("pacifist", "Pacifist", new BasicStatBlock(0, 0, 1, 1, 1, 1, 1, 1, 1, 3),
+            List.of(), "Hand Weapon", 3);
+        EncounterSimulator.SimulationResult result = new EncounterSimulator(ForkJoinPool.commonPool(), 1, 5)
+            .simulate(List.of(pacifist), List.of(pacifist), weapons, 1_000);
+
+        assertEquals(1_000, result.draws());
+        assertEquals(5.0, result.averageRounds(), 1e-9);
+        assertEquals(1_000, result.woundsRemainingA()[3]);
+    }
+
+    @Test
+    void testTemplateAboveMaximumWounds() {
+        // Current wounds are not capped at the stat line, e.g. a blessed or temporarily boosted enemy
+        Enemy boosted = new Enemy("boosted", "Boosted", new BasicStatBlock(0, 0, 1, 1, 1, 1, 1, 1, 1, 10),
+            List.of(), "Hand Weapon", 15);
+        EncounterSimulator.SimulationResult result = new EncounterSimulator(ForkJoinPool.commonPool(), 3, 2)
+            .simulate(List.of(boosted, boosted), List.of(goblin), weapons, 500);
+
+        assertEquals(2 * 15 + 1, result.woundsRemainingA().length);
+        assertEquals(result.trials(), sum(result.woundsRemainingA()));
+        assertEquals(result.trials(), sum(result.woundsRemainingB()));
+    }
+
+    @Test
+    void testDefeatedTemplatesDoNotFight() {
+        Enemy fallen = orc.withCurrentWounds(0);
+        EncounterSimulator.SimulationResult result = new EncounterSimulator(ForkJoinPool.commonPool(), 2, 3)
+            .simulate(List.of(goblin, fallen), List.of(fallen), weapons, 200);
+
+        assertEquals(200, result.winsA());
+        assertEquals(0.0, result.averageRounds(), 1e-9);
+        assertEquals(200, result.woundsRemainingB()[0]);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        EncounterSimulator simulator = new EncounterSimulator(1);
+        assertThrows(IllegalArgumentException.class, () ->
+            simulator.simulate(List.of(), List.of(orc), weapons, 10));
+        assertThrows(IllegalArgumentException.class, () ->
+            simulator.simulate(List.of(goblin), List.of(orc), weapons, 0));
+        assertThrows(IllegalArgumentException.class, () ->
+            simulator.simulate(List.of(goblin), List.of(orc), enemy -> null, 10));
+    }
+
+    private long sum(long[] values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total;
+    }
+}
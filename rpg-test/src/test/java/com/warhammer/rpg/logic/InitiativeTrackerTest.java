@@ -0,0 +1,327 @@
+package com.warhammer.rpg.logic;
+
+import com.warhammer.rpg.model.Ability;
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Enemy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for InitiativeTracker
+ */
+class InitiativeTrackerTest {
+
+    private InitiativeTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new InitiativeTracker();
+    }
+
+    @Test
+    void testEmptyTracker() {
+        assertTrue(tracker.isEmpty());
+        assertNull(tracker.getCurrentEntry());
+        assertEquals(0, tracker.getCurrentRound());
+        assertTrue(tracker.getAllEntries().isEmpty());
+    }
+
+    @Test
+    void testOrderHighestFirstWithStableTies() {
+        tracker.addEntry(enemy("a"), 10);
+        tracker.addEntry(enemy("b"), 15);
+        tracker.addEntry(enemy("c"), 10);
+        tracker.addEntry(enemy("d"), 20);
+        tracker.addEntry(enemy("e"), 15);
+
+        assertEquals(List.of("d", "b", "e", "a", "c"), ids(tracker.getAllEntries()));
+        assertEquals("d", tracker.getCurrentEntry().enemy().id());
+    }
+
+    @Test
+    void testTurnsAndRounds() {
+        tracker.addEntry(enemy("a"), 5);
+        tracker.addEntry(enemy("b"), 8);
+
+        assertEquals("b", tracker.getCurrentEntry().enemy().id());
+        assertEquals(1, tracker.getCurrentRound());
+        tracker.nextTurn();
+        assertEquals("a", tracker.getCurrentEntry().enemy().id());
+        tracker.nextTurn();
+        assertEquals("b", tracker.getCurrentEntry().enemy().id());
+        assertEquals(2, tracker.getCurrentRound());
+    }
+
+    @Test
+    void testRemoveEntryRemovesAllWithId() {
+        tracker.addEntry(enemy("goblin"), 7);
+        tracker.addEntry(enemy("orc"), 9);
+        tracker.addEntry(enemy("goblin"), 12);
+
+        tracker.removeEntry("goblin");
+        assertEquals(List.of("orc"), ids(tracker.getAllEntries()));
+
+        tracker.removeEntry("missing");
+        assertEquals(1, tracker.getAllEntries().size());
+
+        tracker.removeEntry("orc");
+        assertTrue(tracker.isEmpty());
+    }
+
+    @Test
+    void testRemoveResetsTurnPastEnd() {
+        tracker.addEntry(enemy("a"), 3);
+        tracker.addEntry(enemy("b"), 2);
+        tracker.addEntry(enemy("c"), 1);
+        tracker.nextTurn();
+        tracker.nextTurn();
+
+        tracker.removeEntry("c");
+        assertEquals("a", tracker.getCurrentEntry().enemy().id());
+        assertEquals(1, tracker.getCurrentRound());
+    }
+
+    @Test
+    void testRemoveAdjustsTurnBeforeNotifying() {
+        tracker.addEntry(enemy("a"), 3);
+        tracker.addEntry(enemy("b"), 2);
+        tracker.addEntry(enemy("c"), 1);
+        for (int i = 0; i < 5; i++) {
+            tracker.nextTurn();
+        }
+        List<String> seen = new ArrayList<>();
+        tracker.addListener(new InitiativeListener() {
+            @Override
+            public void entryRemoved(InitiativeTracker.InitiativeEntry entry, int index) {
+                seen.add("remove " + tracker.getCurrentEntry().enemy().id());
+            }
+
+            @Override
+            public void turnChanged(InitiativeTracker.InitiativeEntry current, int round) {
+                seen.add("turn " + current.enemy().id() + " round " + round);
+            }
+        });
+
+        tracker.removeEntry("b");
+
+        assertEquals("a", tracker.getCurrentEntry().enemy().id());
+        assertEquals(List.of("remove a", "turn a round 1"), seen);
+    }
+
+    @Test
+    void testReset() {
+        tracker.addEntry(enemy("a"), 3);
+        tracker.nextTurn();
+        tracker.reset();
+
+        assertTrue(tracker.isEmpty());
+        tracker.addEntry(enemy("a"), 3);
+        assertEquals(1, tracker.getAllEntries().size());
+    }
+
+    @Test
+    void testMatchesSortedListReference() {
+        Random random = new Random(17);
+        List<Turn> reference = new ArrayList<>();
+
+        for (int step = 0; step < 3_000; step++) {
+            if (reference.isEmpty() || random.nextInt(3) > 0) {
+                Enemy enemy = enemy("e" + random.nextInt(500));
+                int initiative = random.nextInt(20);
+                tracker.addEntry(enemy, initiative);
+                reference.add(new Turn(enemy, initiative));
+                reference.sort(Comparator.comparingInt(Turn::initiative).reversed());
+            } else {
+                String id = reference.get(random.nextInt(reference.size())).enemy().id();
+                tracker.removeEntry(id);
+                reference.removeIf(entry -> entry.enemy().id().equals(id));
+            }
+        }
+
+        assertEquals(reference, turns(tracker.getAllEntries()));
+        for (int i = 0; i < reference.size(); i++) {
+            InitiativeTracker.InitiativeEntry current = tracker.getCurrentEntry();
+            assertEquals(reference.get(i), new Turn(current.enemy(), current.initiative()));
+            tracker.nextTurn();
+        }
+        assertEquals(reference.size(), tracker.getCombatants().size());
+    }
+
+    @Test
+    void testWoundsAreTrackedPerEntry() {
+        Enemy goblin = enemy("goblin");
+        tracker.addEntry(goblin, 5);
+        tracker.addEntry(goblin, 3);
+        InitiativeTracker.InitiativeEntry first = tracker.getAllEntries().get(0);
+        InitiativeTracker.InitiativeEntry second = tracker.getAllEntries().get(1);
+
+        assertEquals(3, tracker.applyDamage(first, 2));
+        assertEquals(3, tracker.getCurrentWounds(first));
+        assertEquals(5, tracker.getCurrentWounds(second));
+        assertEquals(0, tracker.applyDamage(second, 9));
+        assertFalse(tracker.getCombatants().isAlive(second.slot()));
+        assertEquals(5, tracker.heal(first, 10));
+
+        // The shared template is never modified
+        assertEquals(5, goblin.currentWounds());
+        assertEquals(0, tracker.getCombatants().snapshot(second.slot()).currentWounds());
+
+        tracker.removeEntry("goblin");
+        assertTrue(tracker.getCombatants().isEmpty());
+    }
+
+    @Test
+    void testRemovedEntryCannotActOnReusedSlot() {
+        InitiativeTracker.InitiativeEntry goblin = tracker.addEntry(enemy("goblin"), 5);
+        tracker.removeEntry("goblin");
+        InitiativeTracker.InitiativeEntry orc = tracker.addEntry(enemy("orc"), 7);
+
+        assertEquals(goblin.slot(), orc.slot());
+        assertThrows(IllegalArgumentException.class, () -> tracker.applyDamage(goblin, 2));
+        assertThrows(IllegalArgumentException.class, () -> tracker.heal(goblin, 2));
+        assertThrows(IllegalArgumentException.class, () -> tracker.getCurrentWounds(goblin));
+        assertEquals(5, tracker.getCurrentWounds(orc));
+
+        tracker.reset();
+        InitiativeTracker.InitiativeEntry troll = tracker.addEntry(enemy("troll"), 1);
+        assertEquals(orc.slot(), troll.slot());
+        assertThrows(IllegalArgumentException.class, () -> tracker.applyDamage(orc, 1));
+    }
+
+    @Test
+    void testEncounterAbilities() {
+        assertTrue(tracker.getEncounterAbilities().isEmpty());
+        tracker.addEntry(enemy("goblin"), 5);
+        tracker.addEntry(new Enemy("troll", "Troll", new BasicStatBlock(30, 0, 5, 5, 10, 10, 10, 10, 1, 20),
+            List.of(new Ability("Fear", "")), "", 20), 3);
+
+        assertTrue(tracker.getEncounterAbilities().contains("fear"));
+        tracker.removeEntry("troll");
+        assertFalse(tracker.getEncounterAbilities().contains("Fear"));
+    }
+
+    @Test
+    void testListenerReceivesFineGrainedEvents() {
+        List<String> events = new ArrayList<>();
+        tracker.addListener(new InitiativeListener() {
+            @Override
+            public void entryAdded(InitiativeTracker.InitiativeEntry entry, int index) {
+                events.add("add " + entry.enemy().id() + "@" + index);
+            }
+
+            @Override
+            public void entryRemoved(InitiativeTracker.InitiativeEntry entry, int index) {
+                events.add("remove " + entry.enemy().id() + "@" + index);
+            }
+
+            @Override
+            public void entryMoved(InitiativeTracker.InitiativeEntry oldEntry, InitiativeTracker.InitiativeEntry newEntry,
+                                   int from, int to) {
+                events.add("move " + newEntry.enemy().id() + " " + from + "->" + to);
+            }
+
+            @Override
+            public void woundsChanged(InitiativeTracker.InitiativeEntry entry, int index, int currentWounds) {
+                events.add("wounds " + entry.enemy().id() + "@" + index + "=" + currentWounds);
+            }
+
+            @Override
+            public void turnChanged(InitiativeTracker.InitiativeEntry current, int round) {
+                events.add("turn " + (current == null ? "-" : current.enemy().id()) + " round " + round);
+            }
+
+            @Override
+            public void cleared(List<InitiativeTracker.InitiativeEntry> removed) {
+                events.add("cleared " + ids(removed));
+            }
+        });
+
+        InitiativeTracker.InitiativeEntry a = tracker.addEntry(enemy("a"), 5);
+        tracker.addEntry(enemy("b"), 8);
+        tracker.applyDamage(a, 2);
+        tracker.applyDamage(a, 0);
+        InitiativeTracker.InitiativeEntry moved = tracker.changeInitiative(a, 9);
+        tracker.nextTurn();
+        tracker.removeEntry("b");
+        tracker.heal(moved, 1);
+        tracker.addEntry(enemy("c"), 1);
+        tracker.reset();
+
+        assertEquals(List.of(
+            "add a@0", "add b@0", "wounds a@1=3", "move a 1->0", "turn b round 1",
+            "remove b@1", "turn a round 1", "wounds a@0=4", "add c@1", "cleared [a, c]", "turn - round 0"), events);
+        assertEquals(9, moved.initiative());
+        assertEquals(a.slot(), moved.slot());
+    }
+
+    @Test
+    void testEventsReplayToTrackerOrder() {
+        List<InitiativeTracker.InitiativeEntry> mirror = new ArrayList<>();
+        tracker.addListener(new InitiativeListener() {
+            @Override
+            public void entryAdded(InitiativeTracker.InitiativeEntry entry, int index) {
+                mirror.add(index, entry);
+            }
+
+            @Override
+            public void entryRemoved(InitiativeTracker.InitiativeEntry entry, int index) {
+                assertEquals(entry, mirror.remove(index));
+            }
+
+            @Override
+            public void entryMoved(InitiativeTracker.InitiativeEntry oldEntry, InitiativeTracker.InitiativeEntry newEntry,
+                                   int from, int to) {
+                assertEquals(oldEntry, mirror.remove(from));
+                mirror.add(to, newEntry);
+            }
+
+            @Override
+            public void woundsChanged(InitiativeTracker.InitiativeEntry entry, int index, int currentWounds) {
+                assertEquals(entry, mirror.get(index));
+            }
+        });
+
+        Random random = new Random(23);
+        for (int step = 0; step < 2_000; step++) {
+            int action = random.nextInt(4);
+            if (mirror.isEmpty() || action == 0) {
+                tracker.addEntry(enemy("e" + random.nextInt(200)), random.nextInt(20));
+            } else {
+                InitiativeTracker.InitiativeEntry entry = mirror.get(random.nextInt(mirror.size()));
+                if (action == 1) {
+                    tracker.removeEntry(entry.enemy().id());
+                } else if (action == 2) {
+                    tracker.changeInitiative(entry, random.nextInt(20));
+                } else {
+                    tracker.applyDamage(entry, 1);
+                }
+            }
+            assertEquals(tracker.size(), mirror.size());
+        }
+        assertEquals(tracker.getAllEntries(), mirror);
+        for (int i = 0; i < mirror.size(); i++) {
+            assertEquals(i, tracker.indexOf(mirror.get(i)));
+            assertEquals(mirror.get(i), tracker.getEntry(i));
+        }
+    }
+
+    private record Turn(Enemy enemy, int initiative) {}
+
+    private List<Turn> turns(List<InitiativeTracker.InitiativeEntry> entries) {
+        return entries.stream().map(entry -> new Turn(entry.enemy(), entry.initiative())).toList();
+    }
+
+    private Enemy enemy(String id) {
+        return new Enemy(id, id, new BasicStatBlock(30, 30, 3, 3, 30, 30, 30, 30, 1, 5), List.of(), "", 5);
+    }
+
+    private List<String> ids(List<InitiativeTracker.InitiativeEntry> entries) {
+        return entries.stream().map(entry -> entry.enemy().id()).toList();
+    }
+}
@@ -0,0 +1,159 @@
+package com.warhammer.rpg.logic;
+
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.Weapon;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for MatchupMatrix
+ */
+class MatchupMatrixTest {
+
+    private List<Enemy> enemies;
+    private List<Weapon> weapons;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        enemies = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            enemies.add(enemy("enemy-" + i, 20 + i * 5, 2 + i % 4, 20 + i * 3));
+        }
+        weapons = List.of(
+            new Weapon("club", "Club", 0, "one-handed"),
+            new Weapon("sword", "Sword", 2, "one-handed"),
+            new Weapon("great-weapon", "Great Weapon", 3, "two-handed"));
+    }
+
+    @Test
+    void testCellsMatchProbabilityCalculator() {
+        MatchupMatrix matrix = MatchupMatrix.build(enemies, weapons);
+        ProbabilityCalculator calculator = new ProbabilityCalculator();
+
+        assertEquals(12, matrix.getEnemyCount());
+        assertEquals(3, matrix.getWeaponCount());
+        assertEquals(12L * 3, matrix.recomputedMeans());
+
+        for (int a = 0; a < enemies.size(); a++) {
+            for (int d = 0; d < enemies.size(); d++) {
+                for (int w = 0; w < weapons.size(); w++) {
+                    double expected = calculator.attackOdds(enemies.get(a), enemies.get(d), weapons.get(w))
+                        .expectedDamage();
+                    assertEquals(expected, matrix.expectedDamage(a, d, w), 1e-5);
+                }
+                assertEquals(enemies.get(a).stats().weaponSkill() / 100.0, matrix.hitChance(a), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    void testLookupById() {
+        MatchupMatrix matrix = MatchupMatrix.build(enemies, weapons);
+
+        assertEquals(matrix.expectedDamage(3, 5, 1), matrix.expectedDamage("enemy-3", "enemy-5", "sword"));
+        assertTrue(Float.isNaN(matrix.expectedDamage("enemy-3", "unknown", "sword")));
+        assertEquals(-1, matrix.weaponIndex("unknown"));
+    }
+
+    @Test
+    void testUpdateRecomputesOnlyChangedRowsAndColumns() {
+        MatchupMatrix original = MatchupMatrix.build(enemies, weapons);
+
+        List<Enemy> changed = new ArrayList<>(enemies);
+        changed.set(4, enemy("enemy-4", 90, 9, 90));
+        MatchupMatrix updated = MatchupMatrix.update(original, changed, weapons);
+
+        // Only the changed attacker's means over all weapons; as a defender it only
+        // contributes its toughness test chance
+        assertEquals(3, updated.recomputedMeans());
+        assertEquals(original.expectedDamage(1, 2, 0), updated.expectedDamage(1, 2, 0));
+        assertNotEquals(original.expectedDamage(4, 2, 0), updated.expectedDamage(4, 2, 0));
+        assertEquals(MatchupMatrix.build(changed, weapons).expectedDamage(2, 4, 1),
+            updated.expectedDamage(2, 4, 1));
+        assertNotEquals(original.dataHash(), updated.dataHash());
+
+        List<Weapon> moreWeapons = new ArrayList<>(weapons);
+        moreWeapons.add(new Weapon("spear", "Spear", 1, "reach"));
+        MatchupMatrix withSpear = MatchupMatrix.update(updated, changed, moreWeapons);
+        assertEquals(12, withSpear.recomputedMeans());
+    }
+
+    @Test
+    void testCacheRoundTrip() throws Exception {
+        Path cache = tempDir.resolve("cache").resolve("matchups.bin");
+
+        MatchupMatrix built = MatchupMatrix.loadOrBuild(cache, enemies, weapons);
+        assertTrue(Files.exists(cache));
+        assertEquals(12L * 3, built.recomputedMeans());
+
+        MatchupMatrix cached = MatchupMatrix.loadOrBuild(cache, enemies, weapons);
+        assertEquals(0, cached.recomputedMeans());
+        assertEquals(built.dataHash(), cached.dataHash());
+        assertEquals(built.expectedDamage(7, 3, 2), cached.expectedDamage(7, 3, 2));
+
+        List<Enemy> changed = new ArrayList<>(enemies);
+        changed.add(enemy("newcomer", 50, 3, 40));
+        MatchupMatrix grown = MatchupMatrix.loadOrBuild(cache, changed, weapons);
+        assertEquals(3, grown.recomputedMeans());
+        assertEquals(grown.dataHash(), MatchupMatrix.load(cache).dataHash());
+    }
+
+    @Test
+    void testCorruptCacheIsRebuilt() throws Exception {
+        Path cache = tempDir.resolve("matchups.bin");
+        Files.write(cache, new byte[] {1, 2, 3});
+
+        MatchupMatrix matrix = MatchupMatrix.loadOrBuild(cache, enemies, weapons);
+        assertEquals(12L * 3, matrix.recomputedMeans());
+        assertEquals(matrix.dataHash(), MatchupMatrix.load(cache).dataHash());
+    }
+
+    @Test
+    void testCorruptCountsAreRebuilt() throws Exception {
+        Path cache = tempDir.resolve("matchups.bin");
+        MatchupMatrix built = MatchupMatrix.loadOrBuild(cache, enemies, weapons);
+        byte[] valid = Files.readAllBytes(cache);
+
+        // Enemy and weapon counts follow the magic, version and data hash
+        int[][] counts = {{-1, 3}, {12, -5}, {1_000_000, 1_000_000}, {50_000, 3}, {13, 3}};
+        for (int[] count : counts) {
+            ByteBuffer corrupt = ByteBuffer.wrap(valid.clone());
+            corrupt.putInt(16, count[0]).putInt(20, count[1]);
+            Files.write(cache, corrupt.array());
+
+            assertThrows(IOException.class, () -> MatchupMatrix.load(cache));
+            MatchupMatrix rebuilt = MatchupMatrix.loadOrBuild(cache, enemies, weapons);
+            assertEquals(12L * 3, rebuilt.recomputedMeans());
+            assertEquals(built.dataHash(), MatchupMatrix.load(cache).dataHash());
+        }
+    }
+
+    @Test
+    void testUnwritableCacheStillReturnsMatrix() throws Exception {
+        // A regular file where the cache directory should be makes the write fail
+        Path blocker = tempDir.resolve("blocker");
+        Files.write(blocker, new byte[] {0});
+
+        MatchupMatrix matrix = MatchupMatrix.loadOrBuild(blocker.resolve("matchups.bin"), enemies, weapons);
+        assertEquals(MatchupMatrix.build(enemies, weapons).dataHash(), matrix.dataHash());
+        assertEquals(12L * 3, matrix.recomputedMeans());
+    }
+
+    private Enemy enemy(String id, int weaponSkill, int strength, int toughness) {
+        return new Enemy(id, id, new BasicStatBlock(weaponSkill, 30, strength, toughness, 30, 30, 30, 30, 1, 10),
+            List.of(), "Sword", 10);
+    }
+}
@@ -0,0 +1,158 @@
+package com.warhammer.rpg.logic;
+
+import com.warhammer.rpg.model.BasicStatBlock;
+import com.warhammer.rpg.model.Enemy;
+import com.warhammer.rpg.model.Weapon;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Unit tests for ProbabilityCalculator
+ */
+class ProbabilityCalculatorTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private ProbabilityCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new ProbabilityCalculator();
+    }
+
+    @Test
+    void testDiceSum() {
+        ProbabilityCalculator.Distribution twoD6 = calculator.diceSum(2, 6);
+
+        assertEquals(2, twoD6.min());
+        assertEquals(12, twoD6.max());
+        assertEquals(6.0 / 36, twoD6.probability(7), EPSILON);
+        assertEquals(1.0 / 36, twoD6.probability(12), EPSILON);
+        assertEquals(0, twoD6.probability(13), EPSILON);
+        assertEquals(7.0, twoD6.mean(), EPSILON);
+        assertEquals(1.0, twoD6.atMost(12), EPSILON);
+
+        ProbabilityCalculator.Distribution none = calculator.diceSum(0, 6);
+        assertEquals(1.0, none.probability(0), EPSILON);
+
+        assertThrows(IllegalArgumentException.class, () -> calculator.diceSum(-1, 6));
+    }
+
+    @Test
+    void testDiceSumIsMemoized() {
+        ProbabilityCalculator.Distribution first = calculator.diceSum(3, 6);
+        assertSame(first, calculator.diceSum(3, 6));
+        assertEquals(10.5, first.mean(), EPSILON);
+    }
+
+    @Test
+    void testDiceSumOfManyDice() {
+        // Deep enough to overflow the stack if built one die at a time by recursion
+        ProbabilityCalculator.Distribution many = calculator.diceSum(10_000, 2);
+
+        assertEquals(10_000, many.min());
+        assertEquals(20_000, many.max());
+        assertEquals(15_000.0, many.mean(), 1e-6);
+        assertEquals(1.0, many.atMost(20_000), 1e-9);
+        assertEquals(1, calculator.cacheSize());
+
+        ProbabilityCalculator.Distribution fiveD6 = calculator.diceSum(5, 6);
+        ProbabilityCalculator.Distribution oneAtATime = calculator.diceSum(1, 6);
+        for (int die = 2; die <= 5; die++) {
+            oneAtATime = oneAtATime.convolve(calculator.diceSum(1, 6));
+        }
+        for (int value = 5; value <= 30; value++) {
+            assertEquals(oneAtATime.probability(value), fiveD6.probability(value), EPSILON);
+        }
+    }
+
+    @Test
+    void testHitChance() {
+        assertEquals(0.45, calculator.hitChance(45), EPSILON);
+        assertEquals(1.0, calculator.hitChance(150), EPSILON);
+        assertEquals(0.0, calculator.hitChance(-5), EPSILON);
+    }
+
+    @Test
+    void testDamageOnHitMatchesResolveAttack() {
+        // Strength 4 + weapon 2 + d10/2, toughness 0 never reduces
+        ProbabilityCalculator.Distribution damage = calculator.damageOnHit(4, 2, 0);
+        assertEquals(6, damage.min());
+        assertEquals(11, damage.max());
+        assertEquals(0.1, damage.probability(6), EPSILON);
+        assertEquals(0.2, damage.probability(7), EPSILON);
+        assertEquals(0.1, damage.probability(11), EPSILON);
+
+        // Toughness 100 always reduces by one
+        ProbabilityCalculator.Distribution reduced = calculator.damageOnHit(4, 2, 100);
+        assertEquals(5, reduced.min());
+        assertEquals(10, reduced.max());
+    }
+
+    @Test
+    void testAttackDamageIncludesMisses() {
+        ProbabilityCalculator.Distribution damage = calculator.attackDamage(30, 3, 1, 30);
+
+        assertEquals(0.7, damage.probability(0), EPSILON);
+        assertEquals(1.0, damage.atMost(damage.max()), EPSILON);
+        assertSame(damage, calculator.attackDamage(30, 3, 1, 30));
+    }
+
+    @Test
+    void testAttackOddsAgreeWithSampling() {
+        Enemy attacker = new Enemy("attacker", "Attacker",
+            new BasicStatBlock(55, 30, 4, 3, 30, 30, 30, 30, 1, 10), List.of(), "Sword", 10);
+        Enemy defender = new Enemy("defender", "Defender",
+            new BasicStatBlock(40, 30, 3, 35, 30, 30, 30, 30, 1, 10), List.of(), "Sword", 10);
+        Weapon sword = new Weapon("sword", "Sword", 2, "one-handed");
+
+        ProbabilityCalculator.AttackOdds odds = calculator.attackOdds(attacker, defender, sword);
+
+        CombatResolver resolver = new CombatResolver(new DiceRoller(RandomSource.splittable(3)));
+        int samples = 200_000;
+        long totalDamage = 0;
+        int hits = 0;
+        for (int i = 0; i < samples; i++) {
+            CombatResolver.AttackResult result = resolver.resolveAttack(attacker, defender, sword);
+            totalDamage += result.damage();
+            hits += result.hit() ? 1 : 0;
+        }
+
+        assertEquals(0.55, odds.hitChance(), EPSILON);
+        assertEquals(0.35, odds.toughnessReductionChance(), EPSILON);
+        assertEquals(odds.hitChance(), (double) hits / samples, 0.01);
+        assertEquals(odds.expectedDamage(), (double) totalDamage / samples, 0.05);
+    }
+
+    @Test
+    void testCharacteristicTestDegrees() {
+        ProbabilityCalculator.TestOdds odds = calculator.characteristicTest(40, 5);
+
+        assertEquals(0.45, odds.successChance(), EPSILON);
+        // Rolls 36-45 succeed by 0 degrees, 1-5 succeed by 4 degrees
+        assertEquals(0.10, odds.successDegrees().probability(0), EPSILON);
+        assertEquals(0.05, odds.successDegrees().probability(4), EPSILON);
+        // Rolls 46-54 fail by 0 degrees, 95-100 fail by 5 degrees
+        assertEquals(0.09, odds.failureDegrees().probability(0), EPSILON);
+        assertEquals(0.06, odds.failureDegrees().probability(5), EPSILON);
+
+        assertEquals(odds.successChance(), odds.successDegrees().atMost(10), EPSILON);
+        assertEquals(1 - odds.successChance(), odds.failureDegrees().atMost(10), EPSILON);
+        assertSame(odds, calculator.characteristicTest(45, 0));
+    }
+
+    @Test
+    void testCharacteristicTestOutsideRange() {
+        ProbabilityCalculator.TestOdds impossible = calculator.characteristicTest(-20, 0);
+        assertEquals(0.0, impossible.successChance(), EPSILON);
+        assertEquals(0.0, impossible.successDegrees().atMost(100), EPSILON);
+        assertEquals(0.01, impossible.failureDegrees().probability(12), EPSILON);
+
+        ProbabilityCalculator.TestOdds certain = calculator.characteristicTest(150, 0);
+        assertEquals(1.0, certain.successChance(), EPSILON);
+        assertEquals(0.1, certain.successDegrees().probability(5), EPSILON);
+    }
+}
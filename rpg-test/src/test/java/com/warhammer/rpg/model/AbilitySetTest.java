@@ -0,0 +1,75 @@
+package com.warhammer.rpg.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for AbilityRegistry, AbilitySet and the ability masks on Enemy
+ */
+class AbilitySetTest {
+
+    @Test
+    void testRegistryIdsIgnoreCase() {
+        int id = AbilityRegistry.idOf("Test Frenzy");
+        assertEquals(id, AbilityRegistry.idOf("TEST FRENZY"));
+        assertEquals(id, AbilityRegistry.lookup("test frenzy"));
+        assertEquals("Test Frenzy", AbilityRegistry.nameOf(id));
+        assertTrue(id < AbilityRegistry.size());
+        assertEquals(AbilityRegistry.UNKNOWN, AbilityRegistry.lookup("never registered ability"));
+        assertEquals(AbilityRegistry.UNKNOWN, AbilityRegistry.lookup(null));
+    }
+
+    @Test
+    void testEnemyAbilityBits() {
+        Enemy goblin = enemy("goblin", "Cowardly", "Night Vision");
+        int cowardly = AbilityRegistry.lookup("Cowardly");
+
+        assertTrue(goblin.hasAbility(cowardly));
+        assertTrue(goblin.hasAbility("night vision"));
+        assertFalse(goblin.hasAbility("Fear"));
+        assertFalse(goblin.hasAbility(AbilityRegistry.UNKNOWN));
+        assertEquals(2, goblin.abilitySet().size());
+        assertEquals("Cowardly", goblin.getAbility("COWARDLY").name());
+        assertNull(goblin.getAbility("Fear"));
+    }
+
+    @Test
+    void testUnionOfEncounter() {
+        Enemy goblin = enemy("goblin", "Cowardly");
+        Enemy troll = enemy("troll", "Fear", "Regenerate");
+        Enemy rat = enemy("rat");
+
+        AbilitySet encounter = AbilitySet.union(List.of(goblin, troll, rat));
+        assertTrue(encounter.contains("Fear"));
+        assertTrue(encounter.contains("Cowardly"));
+        assertEquals(3, encounter.size());
+        assertTrue(encounter.containsAll(troll.abilitySet()));
+        assertTrue(encounter.intersects(goblin.abilitySet()));
+        assertFalse(goblin.abilitySet().intersects(troll.abilitySet()));
+        assertTrue(AbilitySet.union(List.of(rat)).isEmpty());
+    }
+
+    @Test
+    void testListsStayEqualToPlainLists() {
+        List<Ability> plain = new ArrayList<>(List.of(new Ability("Fear", "Scary")));
+        Enemy troll = new Enemy("troll", "Troll", new BasicStatBlock(30, 0, 5, 5, 10, 10, 10, 10, 1, 20),
+            plain, "", 20);
+        plain.clear();
+
+        assertEquals(List.of(new Ability("Fear", "Scary")), troll.abilities());
+        assertEquals(troll, new Enemy("troll", "Troll", troll.stats(), List.of(new Ability("Fear", "Scary")), "", 20));
+        assertThrows(UnsupportedOperationException.class, () -> troll.abilities().add(new Ability("Frenzy", "")));
+        assertEquals(AbilitySet.of(troll.abilities()), troll.abilitySet());
+    }
+
+    private Enemy enemy(String id, String... abilityNames) {
+        List<Ability> abilities = new ArrayList<>();
+        for (String name : abilityNames) {
+            abilities.add(new Ability(name, ""));
+        }
+        return new Enemy(id, id, new BasicStatBlock(30, 30, 3, 3, 30, 30, 30, 30, 1, 8), abilities, "", 8);
+    }
+}
@@ -1,5 +1,6 @@
 package com.warhammer.rpg.model;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
@@ -118,6 +119,39 @@ class EnemyTest {
         assertEquals(0, negativeWoundsGoblin.currentWounds());
     }
 
+    @Test
+    void testJsonRoundTripKeepsWounds() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Enemy orc = new Enemy("orc", "Orc", new BasicStatBlock(35, 25, 4, 4, 25, 20, 30, 20, 1, 11),
+            goblinAbilities, "Hand Weapon", 0);
+
+        Enemy defeated = mapper.readValue(mapper.writeValueAsString(orc.takeDamage(20)), Enemy.class);
+        assertFalse(defeated.isAlive());
+        assertEquals(0, defeated.currentWounds());
+        assertEquals(orc.takeDamage(20), defeated);
+
+        Enemy wounded = mapper.readValue(mapper.writeValueAsString(orc.takeDamage(4)), Enemy.class);
+        assertEquals(7, wounded.currentWounds());
+        assertEquals(orc, mapper.readValue(mapper.writeValueAsString(orc), Enemy.class));
+        assertEquals(11, mapper.readValue("{\"id\": \"orc\", \"name\": \"Orc\", \"stats\": {\"wounds\": 11}}",
+            Enemy.class).currentWounds());
+    }
+
+    @Test
+    void testJsonWoundsUpToZeroMeanFullWounds() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        String legacy = "{\"id\": \"orc\", \"name\": \"Orc\", \"stats\": {\"wounds\": 11}, \"currentWounds\": %d}";
+
+        assertEquals(11, mapper.readValue(legacy.formatted(0), Enemy.class).currentWounds());
+        assertEquals(11, mapper.readValue(legacy.formatted(-1), Enemy.class).currentWounds());
+        assertEquals(1, new Enemy("goblin", "Goblin", goblinStats, null, null, -3).currentWounds());
+
+        String json = mapper.writeValueAsString(goblin.takeDamage(5));
+        assertTrue(json.contains("\"currentWounds\":0"), json);
+        assertTrue(json.contains("\"defeated\":true"), json);
+        assertFalse(mapper.writeValueAsString(goblin).contains("defeated"));
+    }
+
     @Test
     void testDefaultValues() {
         Enemy simpleEnemy = new Enemy("simple", "Simple", goblinStats, null, null, 0);
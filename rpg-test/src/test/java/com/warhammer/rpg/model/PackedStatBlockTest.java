@@ -0,0 +1,61 @@
+package com.warhammer.rpg.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Unit tests for PackedStatBlock
+ */
+class PackedStatBlockTest {
+
+    private final BasicStatBlock basic = new BasicStatBlock(127, 0, 45, 38, 61, 12, 99, 7, 255, 1234);
+
+    @Test
+    void testPackedValuesMatch() {
+        StatBlock packed = PackedStatBlock.of(basic);
+
+        assertInstanceOf(PackedStatBlock.class, packed);
+        for (Characteristic characteristic : Characteristic.values()) {
+            assertEquals(characteristic.of(basic), characteristic.of(packed), characteristic.name());
+        }
+        assertEquals(basic.weaponSkill(), packed.weaponSkill());
+        assertEquals(basic.wounds(), packed.wounds());
+        assertSame(packed, PackedStatBlock.of(packed));
+    }
+
+    @Test
+    void testEqualToBasicStatBlock() {
+        StatBlock packed = PackedStatBlock.of(basic);
+
+        assertEquals(basic, packed);
+        assertEquals(packed, basic);
+        assertEquals(basic.hashCode(), packed.hashCode());
+        assertNotEquals(PackedStatBlock.of(new BasicStatBlock(1, 0, 45, 38, 61, 12, 99, 7, 255, 1234)), packed);
+        assertEquals(new Enemy("orc", "Orc", basic, List.of(), "", 0), new Enemy("orc", "Orc", packed, List.of(), "", 0));
+    }
+
+    @Test
+    void testValuesOutsideTheLayoutStayUnpacked() {
+        BasicStatBlock huge = new BasicStatBlock(128, 30, 3, 3, 30, 30, 30, 30, 1, 10);
+        BasicStatBlock negative = new BasicStatBlock(30, 30, 3, 3, 30, 30, 30, 30, -1, 10);
+
+        assertFalse(PackedStatBlock.fits(huge));
+        assertSame(huge, PackedStatBlock.of(huge));
+        assertSame(negative, PackedStatBlock.of(negative));
+        assertThrows(IllegalArgumentException.class, () -> new PackedStatBlock(30, 30, 3, 3, 30, 30, 30, 30, 256, 10));
+        assertThrows(IllegalArgumentException.class, () -> new PackedStatBlock(30, -5, 3, 3, 30, 30, 30, 30, 1, 10));
+    }
+
+    @Test
+    void testJsonIsTheSameAsForBasicStatBlocks() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Enemy plain = new Enemy("orc", "Orc", basic, List.of(), "Spear", 0);
+        Enemy packed = new Enemy("orc", "Orc", PackedStatBlock.of(basic), List.of(), "Spear", 0);
+
+        assertEquals(mapper.readTree(mapper.writeValueAsString(plain)), mapper.readTree(mapper.writeValueAsString(packed)));
+        assertEquals(packed, mapper.readValue(mapper.writeValueAsString(packed), Enemy.class));
+    }
+}
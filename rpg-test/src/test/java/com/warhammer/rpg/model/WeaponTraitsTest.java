@@ -0,0 +1,65 @@
+package com.warhammer.rpg.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Unit tests for WeaponTraits and the parsed traits on Weapon
+ */
+class WeaponTraitsTest {
+
+    @Test
+    void testKnownAndCustomTraits() {
+        WeaponTraits traits = WeaponTraits.parse("Two-Handed,  impact , Warpstone,");
+
+        assertEquals(Set.of(WeaponTrait.TWO_HANDED, WeaponTrait.IMPACT), traits.known());
+        assertEquals(List.of("Warpstone"), traits.custom());
+        assertSame("Warpstone".intern(), traits.custom().get(0));
+        assertEquals(List.of("Two-Handed", "impact", "Warpstone"), traits.tokens());
+        assertEquals("Two-Handed,  impact , Warpstone,", traits.source());
+        assertTrue(traits.has(WeaponTrait.IMPACT));
+        assertTrue(traits.has("warpstone"));
+        assertFalse(traits.has("Warp"));
+    }
+
+    @Test
+    void testWeaponTraitChecks() {
+        Weapon halberd = new Weapon("halberd", "Halberd", 3, "two-handed, reach");
+
+        assertTrue(halberd.hasTrait("Two-Handed"));
+        assertTrue(halberd.hasTrait(WeaponTrait.REACH));
+        assertFalse(halberd.hasTrait("handed"));
+        assertFalse(halberd.hasTrait(WeaponTrait.ONE_HANDED));
+        assertArrayEquals(new String[] {"two-handed", "reach"}, halberd.getTraitsArray());
+        assertEquals("two-handed, reach", halberd.traits());
+        assertEquals(0, new Weapon("fist", "Fist", 0, null).getTraitsArray().length);
+        assertSame(WeaponTraits.NONE, new Weapon("fist", "Fist", 0, "").traitSet());
+    }
+
+    @Test
+    void testTraitSetIsSharedPerTraitsString() {
+        Weapon spear = new Weapon("spear", "Spear", 3, "fast");
+        Weapon rapier = new Weapon("rapier", "Rapier", 1, new String("fast"));
+
+        assertSame(spear.traitSet(), rapier.traitSet());
+        assertTrue(rapier.hasTrait(WeaponTrait.FAST));
+        assertFalse(rapier.hasTrait(WeaponTrait.SLOW));
+        assertFalse(spear.toString().contains("traitSet"));
+    }
+
+    @Test
+    void testJsonKeepsOnlyTheTraitsString() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Weapon maul = new Weapon("maul", "Maul", 2, "two-handed, impact");
+
+        String json = mapper.writeValueAsString(maul);
+        assertFalse(json.contains("traitSet"), json);
+        Weapon read = mapper.readValue(json, Weapon.class);
+        assertEquals(maul, read);
+        assertTrue(read.hasTrait(WeaponTrait.IMPACT));
+    }
+}